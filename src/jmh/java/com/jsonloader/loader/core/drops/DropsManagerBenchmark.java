@@ -0,0 +1,106 @@
+package com.jsonloader.loader.core.drops;
+
+import com.jsonloader.loader.core.loader.DropCondition;
+import com.jsonloader.loader.core.loader.DropEntry;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Cost of one drop event once its table has been found: a compiled block or mob table from
+ * {@link CompiledDropTables} evaluated by {@link DropsManager#evaluate} against a
+ * {@link DropContext}, as the handlers do (chance rolls, compiled conditions, counts and
+ * enchantment bonuses). The contexts hold the values the handlers read from the tool and
+ * the kill; tiers are ranked like {@link ToolTierRanks} does for the vanilla tools.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DropsManagerBenchmark {
+    // Wood, gold, stone, iron, diamond and netherite, in ToolTierRanks order; wood and gold share a rank
+    private static final String[] TIERS = {"wood", "gold", "stone", "iron", "diamond", "netherite"};
+    private static final Map<String, Integer> TIER_RANKS = Map.of("wood", 0, "gold", 0, "stone", 2, "iron", 3,
+            "diamond", 4, "netherite", 5);
+    private static final String[] ITEM_IDS = {"minecraft:diamond", "minecraft:emerald", "minecraft:iron_ingot",
+            "minecraft:bone", "minecraft:rotten_flesh"};
+    // Different tools and kills per event, so no single condition branch is always taken
+    private static final int CONTEXTS = 64;
+
+    @Param({"4", "32"})
+    public int entries;
+
+    private CompiledDropTables.Table blockTable;
+    private CompiledDropTables.Table mobTable;
+    private DropContext[] blockContexts;
+    private DropContext[] mobContexts;
+    private RandomGenerator rolls;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // Resolving items needs the vanilla registries, but no running game
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        Map<String, Item> items = Map.of(ITEM_IDS[0], Items.DIAMOND, ITEM_IDS[1], Items.EMERALD,
+                ITEM_IDS[2], Items.IRON_INGOT, ITEM_IDS[3], Items.BONE, ITEM_IDS[4], Items.ROTTEN_FLESH);
+
+        // Fixed seed so every run evaluates the same mix of conditions
+        Random random = new Random(42);
+        List<DropEntry> blockDrops = new ArrayList<>(entries);
+        List<DropEntry> mobDrops = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            String itemId = ITEM_IDS[i % ITEM_IDS.length];
+            blockDrops.add(new DropEntry(itemId, 1, 1 + random.nextInt(4), random.nextFloat(),
+                    new DropCondition(random.nextInt(4) == 0, random.nextBoolean(), TIERS[random.nextInt(TIERS.length)],
+                            random.nextBoolean() ? random.nextFloat() : 0.0f, false, false, 0.0f)));
+            mobDrops.add(new DropEntry(itemId, 0, random.nextInt(3), random.nextFloat(),
+                    new DropCondition(false, false, null, 0.0f, random.nextBoolean(), random.nextInt(4) == 0,
+                            random.nextBoolean() ? random.nextFloat() : 0.0f)));
+        }
+        List<String> rejected = new ArrayList<>();
+        blockTable = CompiledDropTables.compileTable("minecraft:stone", blockDrops, true, items::get, TIER_RANKS::get,
+                rejected);
+        mobTable = CompiledDropTables.compileTable("minecraft:zombie", mobDrops, false, items::get, TIER_RANKS::get,
+                rejected);
+        if (!rejected.isEmpty()) {
+            throw new IllegalStateException("Benchmark drops were rejected: " + rejected);
+        }
+
+        blockContexts = new DropContext[CONTEXTS];
+        mobContexts = new DropContext[CONTEXTS];
+        for (int i = 0; i < CONTEXTS; i++) {
+            boolean toolEmpty = random.nextInt(8) == 0;
+            // Includes tools that cannot dig
+            int toolRank = toolEmpty ? ToolTierRanks.NONE : random.nextInt(TIERS.length + 1) + ToolTierRanks.NONE;
+            blockContexts[i] = new DropContext(toolEmpty, true, !toolEmpty && random.nextInt(4) == 0, false,
+                    random.nextInt(4), toolRank);
+            mobContexts[i] = new DropContext(random.nextBoolean(), random.nextBoolean(), false, random.nextInt(4) == 0,
+                    random.nextInt(4), ToolTierRanks.NONE);
+        }
+        rolls = DropRandom.seeded(42).generator();
+    }
+
+    @Benchmark
+    public int blockTable(Blackhole blackhole) {
+        next = (next + 1) % CONTEXTS;
+        return DropsManager.evaluate(blockTable, blockContexts[next], rolls,
+                (entry, count) -> blackhole.consume(count));
+    }
+
+    @Benchmark
+    public int mobTable(Blackhole blackhole) {
+        next = (next + 1) % CONTEXTS;
+        return DropsManager.evaluate(mobTable, mobContexts[next], rolls,
+                (entry, count) -> blackhole.consume(count));
+    }
+}
@@ -0,0 +1,96 @@
+package com.jsonloader.loader.core.loader;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds jsonmods folders for the benchmarks: a copy of the example packs, or seeded
+ * synthetic packs scaled to a given number of definitions.
+ */
+final class BenchmarkPacks {
+    // Relative to the project directory, where JMH runs the benchmarks
+    static final Path EXAMPLES = Paths.get(System.getProperty("jsonloader.bench.examples", "examples/jsonmods"));
+    static final int DEFINITIONS_PER_MOD = 1000;
+    static final long SEED = 42L;
+
+    private BenchmarkPacks() {
+    }
+
+    /**
+     * Copies the example packs into the target folder, adding a mod.json to packs that lack one.
+     * @return The mod folders, in name order
+     */
+    static List<Path> copyExamples(Path target) throws IOException {
+        List<Path> modFolders = new ArrayList<>();
+        for (Path example : listFolders(EXAMPLES)) {
+            Path modFolder = target.resolve(example.getFileName().toString());
+            Files.createDirectories(modFolder);
+            try (Stream<Path> files = Files.list(example)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.copy(file, modFolder.resolve(file.getFileName().toString()));
+                }
+            }
+            if (!Files.exists(modFolder.resolve("mod.json"))) {
+                writeModJson(modFolder, example.getFileName().toString());
+            }
+            modFolders.add(modFolder);
+        }
+        return modFolders;
+    }
+
+    /**
+     * Writes synthetic packs with the given total number of block, item and drop definitions,
+     * {@link #DEFINITIONS_PER_MOD} per mod, using the seeded {@link SyntheticPackGenerator}.
+     * @return The mod folders, in name order
+     */
+    static List<Path> scaled(Path target, int definitions) throws IOException {
+        int mods = Math.max(1, (definitions + DEFINITIONS_PER_MOD - 1) / DEFINITIONS_PER_MOD);
+        // 400 blocks, 400 items, 150 block drops and 50 mob drops per mod
+        SyntheticPackGenerator.Spec spec = new SyntheticPackGenerator.Spec(mods,
+                DEFINITIONS_PER_MOD * 2 / 5, DEFINITIONS_PER_MOD * 2 / 5,
+                DEFINITIONS_PER_MOD * 3 / 20, DEFINITIONS_PER_MOD / 20,
+                1, 16, SEED);
+        return SyntheticPackGenerator.generate(target, spec);
+    }
+
+    static void deleteRecursively(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> stream = Files.walk(root)) {
+            for (Path path : stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static List<Path> listFolders(Path root) throws IOException {
+        try (Stream<Path> stream = Files.list(root)) {
+            return stream.filter(Files::isDirectory)
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static void writeModJson(Path modFolder, String modId) throws IOException {
+        ModMetadata metadata = new ModMetadata(modId, modId, "1.0.0", "Benchmark pack " + modId, "JSONloader",
+                null, Collections.emptyList(), null, null);
+        writeJson(modFolder.resolve("mod.json"), metadata);
+    }
+
+    private static void writeJson(Path file, Object value) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            DefinitionTypeAdapters.GSON.toJson(value, writer);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.jsonloader.loader.core.loader;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective record binding of a plain Gson instance with the hand-written
+ * adapters in {@link DefinitionTypeAdapters}, on the same JSON documents.
+ * Throughput is reported in documents parsed per millisecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DefinitionAdaptersBenchmark {
+    @Param({"100", "1000"})
+    public int definitions;
+
+    private final Gson reflective = new Gson();
+    private final Gson adapters = DefinitionTypeAdapters.GSON;
+
+    private String blocksJson;
+    private String itemsJson;
+    private String dropsJson;
+    private String modJson;
+
+    @Setup
+    public void setUp() {
+        StringBuilder blocks = new StringBuilder("[");
+        StringBuilder items = new StringBuilder("[");
+        StringBuilder drops = new StringBuilder("{\"block_drops\":[");
+        for (int i = 0; i < definitions; i++) {
+            String separator = i > 0 ? "," : "";
+            blocks.append(separator).append("{\"id\":\"block_").append(i).append("\",\"name\":\"Block ").append(i)
+                    .append("\",\"material\":\"stone\",\"properties\":{\"hardness\":3.0,\"resistance\":3.0,\"requires_tool\":true},")
+                    .append("\"texture\":{\"type\":\"base64\",\"value\":\"iVBORw0KGgoAAAANSUhEUgAAABAAAAAQ\"},\"comment\":\"unknown field\"}");
+            items.append(separator).append("{\"id\":\"item_").append(i).append("\",\"name\":\"Item ").append(i)
+                    .append("\",\"type\":\"food\",\"properties\":{\"max_stack_size\":16,\"food_properties\":{\"nutrition\":6,")
+                    .append("\"saturation_modifier\":0.6,\"effects\":[{\"effect_id\":\"minecraft:speed\",\"duration\":100}]},")
+                    .append("\"tool_properties\":{\"tier\":\"iron\",\"attack_damage_modifier\":2.0}},")
+                    .append("\"texture\":{\"type\":\"url\",\"value\":\"https://example.com/item.png\"}}");
+            drops.append(separator).append("{\"block_id\":\"jsonloader:block_").append(i).append("\",\"drops\":[")
+                    .append("{\"item_id\":\"minecraft:diamond\",\"count_min\":1,\"count_max\":3,\"chance\":0.5,")
+                    .append("\"conditions\":{\"requires_tool\":true,\"min_tool_tier\":\"iron\",\"fortune_multiplier\":0.5}}]}");
+        }
+        blocksJson = blocks.append("]").toString();
+        itemsJson = items.append("]").toString();
+        dropsJson = drops.append("],\"mob_drops\":[]}").toString();
+        modJson = "{\"mod_id\":\"bench\",\"name\":\"Bench\",\"version\":\"1.0.0\",\"description\":\"d\",\"author\":\"a\","
+                + "\"dependencies\":[\"minecraft\"],\"assets\":{\"blocks_file\":\"blocks.json\"},"
+                + "\"creative_tabs\":[{\"id\":\"tab\",\"title\":\"Tab\",\"icon_item\":\"minecraft:stone\",\"search_tags\":[\"a\",\"b\"]}]}";
+    }
+
+    @Benchmark
+    public BlockDefinition[] blocksReflective() {
+        return reflective.fromJson(blocksJson, BlockDefinition[].class);
+    }
+
+    @Benchmark
+    public BlockDefinition[] blocksAdapters() {
+        return adapters.fromJson(blocksJson, BlockDefinition[].class);
+    }
+
+    @Benchmark
+    public ItemDefinition[] itemsReflective() {
+        return reflective.fromJson(itemsJson, ItemDefinition[].class);
+    }
+
+    @Benchmark
+    public ItemDefinition[] itemsAdapters() {
+        return adapters.fromJson(itemsJson, ItemDefinition[].class);
+    }
+
+    @Benchmark
+    public DropsDefinition dropsReflective() {
+        return reflective.fromJson(dropsJson, DropsDefinition.class);
+    }
+
+    @Benchmark
+    public DropsDefinition dropsAdapters() {
+        return adapters.fromJson(dropsJson, DropsDefinition.class);
+    }
+
+    @Benchmark
+    public ModMetadata modReflective() {
+        return reflective.fromJson(modJson, ModMetadata.class);
+    }
+
+    @Benchmark
+    public ModMetadata modAdapters() {
+        return adapters.fromJson(modJson, ModMetadata.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.jsonloader.loader.core.loader;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to parse every mod of a jsonmods folder with {@link JsonModLoader#parseModFolder},
+ * without the definition cache and without registering anything.
+ * "examples" uses the packs in examples/jsonmods; the numeric values use synthetic packs
+ * with that many block, item and drop definitions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonModLoaderBenchmark {
+    @Param({"examples", "1000", "10000", "100000"})
+    public String pack;
+
+    private Path root;
+    private List<Path> modFolders;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("jsonloader-bench-");
+        modFolders = "examples".equals(pack)
+                ? BenchmarkPacks.copyExamples(root)
+                : BenchmarkPacks.scaled(root, Integer.parseInt(pack));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkPacks.deleteRecursively(root);
+    }
+
+    @Benchmark
+    public void parseAll(Blackhole blackhole) {
+        for (Path modFolder : modFolders) {
+            blackhole.consume(JsonModLoader.parseModFolder(modFolder));
+        }
+    }
+}
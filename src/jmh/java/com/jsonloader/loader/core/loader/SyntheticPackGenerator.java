@@ -0,0 +1,264 @@
+package com.jsonloader.loader.core.loader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic jsonmods packs for load and scale testing.
+ * Every mod folder gets a mod.json (with creative tabs), a blocks.json, an items.json
+ * (basic, food and tool items) and a drops.json (block and mob drops), all written with
+ * the same TypeAdapters the loader reads them with. Block and item textures are small
+ * base64 PNGs.
+ * <p>
+ * Generation is seeded: the same {@link Spec} always produces byte-identical packs, and
+ * each mod only depends on the seed and its own index, so growing the number of mods
+ * leaves the existing ones unchanged.
+ * <p>
+ * Run from Gradle with {@code ./gradlew generateJsonmods}, or call {@link #generate}
+ * from a benchmark.
+ */
+public final class SyntheticPackGenerator {
+    private static final String[] MATERIALS = {"stone", "wood", "metal", "dirt", "sand"};
+    private static final String[] TOOL_TYPES = {"tool_sword", "tool_pickaxe", "tool_axe", "tool_shovel", "tool_hoe"};
+    private static final String[] TIERS = {"wood", "stone", "iron", "gold", "diamond", "netherite"};
+    private static final String[] EFFECTS = {"minecraft:speed", "minecraft:regeneration", "minecraft:strength",
+            "minecraft:night_vision", "minecraft:fire_resistance", "minecraft:poison", "minecraft:hunger"};
+    private static final String[] MOBS = {"minecraft:zombie", "minecraft:skeleton", "minecraft:creeper",
+            "minecraft:spider", "minecraft:enderman", "minecraft:witch", "minecraft:pillager", "minecraft:blaze"};
+    // Command line arguments and their default values
+    private static final Map<String, String> DEFAULTS = Map.of(
+            "output", "build/jsonmods-synthetic",
+            "mods", "10",
+            "blocks", "100",
+            "items", "100",
+            "blockDrops", "50",
+            "mobDrops", "10",
+            "creativeTabs", "1",
+            "textureSize", "16",
+            "seed", "42");
+    // Mixes the mod index into the seed so that every mod gets an independent stream
+    private static final long MOD_SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private SyntheticPackGenerator() {
+    }
+
+    /**
+     * What to generate. The counts are per mod.
+     * @param textureSize Width and height of the generated textures, in pixels; 0 disables textures
+     */
+    public record Spec(int mods, int blocks, int items, int blockDrops, int mobDrops, int creativeTabs,
+                       int textureSize, long seed) {
+        public Spec {
+            if (mods < 0 || blocks < 0 || items < 0 || blockDrops < 0 || mobDrops < 0 || creativeTabs < 0 || textureSize < 0) {
+                throw new IllegalArgumentException("Counts must not be negative");
+            }
+            if (blockDrops > blocks) {
+                throw new IllegalArgumentException("blockDrops (" + blockDrops + ") must not exceed blocks (" + blocks + ")");
+            }
+        }
+
+        /**
+         * Total number of block, item and drop definitions across all mods.
+         */
+        public long definitions() {
+            return (long) mods * (blocks + items + blockDrops + mobDrops);
+        }
+    }
+
+    /**
+     * Writes the packs described by the spec into the target folder, one mod folder each.
+     * @return The mod folders, in name order
+     */
+    public static List<Path> generate(Path target, Spec spec) throws IOException {
+        Files.createDirectories(target);
+        List<Path> modFolders = new ArrayList<>(spec.mods());
+        for (int modIndex = 0; modIndex < spec.mods(); modIndex++) {
+            modFolders.add(generateMod(target, spec, modIndex));
+        }
+        return modFolders;
+    }
+
+    private static Path generateMod(Path target, Spec spec, int modIndex) throws IOException {
+        SplittableRandom random = new SplittableRandom(spec.seed() + MOD_SEED_STEP * (modIndex + 1));
+        String modId = String.format("synthetic_%05d", modIndex);
+        Path modFolder = target.resolve(modId);
+        Files.createDirectories(modFolder);
+
+        List<BlockDefinition> blocks = new ArrayList<>(spec.blocks());
+        for (int i = 0; i < spec.blocks(); i++) {
+            blocks.add(block(random, spec, i));
+        }
+        List<ItemDefinition> items = new ArrayList<>(spec.items());
+        for (int i = 0; i < spec.items(); i++) {
+            items.add(item(random, spec, i));
+        }
+
+        List<BlockDrop> blockDrops = new ArrayList<>(spec.blockDrops());
+        for (int i = 0; i < spec.blockDrops(); i++) {
+            String blockId = "jsonloader:" + modId + "_" + blocks.get(i).id();
+            blockDrops.add(new BlockDrop(blockId, dropEntries(random, modId, items, false)));
+        }
+        List<MobDrop> mobDrops = new ArrayList<>(spec.mobDrops());
+        for (int i = 0; i < spec.mobDrops(); i++) {
+            mobDrops.add(new MobDrop(MOBS[i % MOBS.length], dropEntries(random, modId, items, true)));
+        }
+
+        List<CreativeTabDefinition> creativeTabs = new ArrayList<>(spec.creativeTabs());
+        for (int i = 0; i < spec.creativeTabs(); i++) {
+            String icon = items.isEmpty() ? "minecraft:stone" : items.get(random.nextInt(items.size())).id();
+            creativeTabs.add(new CreativeTabDefinition("tab_" + i, "Synthetic " + modIndex + " Tab " + i, icon, "",
+                    List.of("synthetic", modId), true, "", i == 0 ? "minecraft:ingredients" : ""));
+        }
+
+        ModMetadata metadata = new ModMetadata(modId, "Synthetic Mod " + modIndex, "1.0.0",
+                "Synthetic pack generated with seed " + spec.seed(), "JSONloader", null, Collections.emptyList(),
+                new ModMetadata.AssetsConfig("blocks.json", "items.json", "drops.json"), creativeTabs);
+
+        writeJson(modFolder.resolve("mod.json"), metadata);
+        writeJson(modFolder.resolve("blocks.json"), blocks.toArray(new BlockDefinition[0]));
+        writeJson(modFolder.resolve("items.json"), items.toArray(new ItemDefinition[0]));
+        writeJson(modFolder.resolve("drops.json"), new DropsDefinition(blockDrops, mobDrops));
+        return modFolder;
+    }
+
+    private static BlockDefinition block(SplittableRandom random, Spec spec, int index) {
+        float hardness = round(0.5f + random.nextFloat() * 49.5f);
+        BlockProperties properties = new BlockProperties(hardness, round(hardness * (1 + random.nextFloat() * 4)),
+                random.nextInt(3) != 0);
+        return new BlockDefinition("block_" + index, "Synthetic Block " + index, pick(random, MATERIALS),
+                properties, texture(random, spec));
+    }
+
+    private static ItemDefinition item(SplittableRandom random, Spec spec, int index) {
+        String type;
+        ItemProperties properties;
+        switch (random.nextInt(3)) {
+            case 0 -> {
+                type = "food";
+                properties = new ItemProperties(64, 0, food(random), null);
+            }
+            case 1 -> {
+                type = pick(random, TOOL_TYPES);
+                ItemProperties.ToolProperties tool = new ItemProperties.ToolProperties(pick(random, TIERS),
+                        round(random.nextFloat() * 6), round(random.nextFloat() * 2 - 1), round(1 + random.nextFloat() * 8));
+                properties = new ItemProperties(1, 100 + random.nextInt(2000), null, tool);
+            }
+            default -> {
+                type = "basic";
+                properties = new ItemProperties(random.nextBoolean() ? 64 : 16, 0, null, null);
+            }
+        }
+        return new ItemDefinition("item_" + index, "Synthetic Item " + index, type, properties, texture(random, spec));
+    }
+
+    private static ItemProperties.FoodProperties food(SplittableRandom random) {
+        ItemProperties.EffectProperty[] effects = new ItemProperties.EffectProperty[random.nextInt(3)];
+        for (int i = 0; i < effects.length; i++) {
+            effects[i] = new ItemProperties.EffectProperty(pick(random, EFFECTS), 100 + random.nextInt(1100),
+                    random.nextInt(3), round(0.1f + random.nextFloat() * 0.9f));
+        }
+        return new ItemProperties.FoodProperties(1 + random.nextInt(10), round(random.nextFloat()),
+                random.nextBoolean(), random.nextInt(4) == 0, effects);
+    }
+
+    private static List<DropEntry> dropEntries(SplittableRandom random, String modId, List<ItemDefinition> items,
+                                               boolean mobDrop) {
+        int count = 1 + random.nextInt(3);
+        List<DropEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String itemId = items.isEmpty() ? "minecraft:stone"
+                    : "jsonloader:" + modId + "_" + items.get(random.nextInt(items.size())).id();
+            int min = random.nextInt(3);
+            DropCondition conditions = mobDrop
+                    ? new DropCondition(false, false, "wood", 0.0f, random.nextBoolean(), random.nextInt(5) == 0,
+                        round(random.nextFloat()))
+                    : new DropCondition(random.nextInt(5) == 0, random.nextBoolean(), pick(random, TIERS),
+                        round(random.nextFloat()), false, false, 0.0f);
+            entries.add(new DropEntry(itemId, min, min + random.nextInt(4), round(0.05f + random.nextFloat() * 0.95f),
+                    conditions));
+        }
+        return entries;
+    }
+
+    private static TextureDefinition texture(SplittableRandom random, Spec spec) {
+        if (spec.textureSize() == 0) {
+            return new TextureDefinition("local", "stone");
+        }
+        int size = spec.textureSize();
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        int base = random.nextInt(0x1000000);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int noise = random.nextInt(0x20) * 0x010101;
+                image.setRGB(x, y, 0xFF000000 | (base ^ noise));
+            }
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", png);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode a synthetic texture", e);
+        }
+        return new TextureDefinition("base64", Base64.getEncoder().encodeToString(png.toByteArray()));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // Two decimal places keep the JSON readable and stable
+    private static float round(float value) {
+        return Math.round(value * 100) / 100.0f;
+    }
+
+    private static void writeJson(Path file, Object value) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            DefinitionTypeAdapters.GSON.toJson(value, writer);
+        }
+    }
+
+    /**
+     * Command line entry point. Arguments are {@code key=value} pairs; see {@link #DEFAULTS}
+     * for the keys and their default values.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new LinkedHashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0 || !DEFAULTS.containsKey(arg.substring(0, separator))) {
+                throw new IllegalArgumentException("Unknown argument '" + arg + "', expected one of " + DEFAULTS.keySet());
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        Spec spec = new Spec(
+                Integer.parseInt(options.get("mods")),
+                Integer.parseInt(options.get("blocks")),
+                Integer.parseInt(options.get("items")),
+                Integer.parseInt(options.get("blockDrops")),
+                Integer.parseInt(options.get("mobDrops")),
+                Integer.parseInt(options.get("creativeTabs")),
+                Integer.parseInt(options.get("textureSize")),
+                Long.parseLong(options.get("seed")));
+        Path output = Paths.get(options.get("output"));
+
+        long start = System.nanoTime();
+        List<Path> modFolders = generate(output, spec);
+        System.out.printf("Generated %d mods with %d definitions in %s (%d ms)%n", modFolders.size(),
+                spec.definitions(), output.toAbsolutePath(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,65 @@
+package com.jsonloader.loader.core.texture;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.PackType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup cost of the dynamic resource pack: {@code getResource} for textures that are in
+ * the in-memory cache (hit) and for locations that are not (miss, which falls back to the
+ * temporary folder), and {@code listResources} over a namespace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DynamicPackResourcesBenchmark {
+    private static final String NAMESPACE = "jsonloader_bench";
+    private static final byte[] TEXTURE = new byte[256];
+
+    @Param({"100", "10000"})
+    public int textures;
+
+    private DynamicResourcePackManager.DynamicPackResources pack;
+    private ResourceLocation[] hits;
+    private ResourceLocation[] misses;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Map<String, byte[]> resources = new HashMap<>();
+        hits = new ResourceLocation[textures];
+        misses = new ResourceLocation[textures];
+        for (int i = 0; i < textures; i++) {
+            String path = "textures/block/bench_" + i + ".png";
+            resources.put(path, TEXTURE);
+            hits[i] = new ResourceLocation(NAMESPACE, path);
+            misses[i] = new ResourceLocation(NAMESPACE, "textures/item/missing_" + i + ".png");
+        }
+        TextureIndex index = TextureIndex.of(Map.of(NAMESPACE, Collections.unmodifiableMap(resources)));
+        pack = new DynamicResourcePackManager.DynamicPackResources("jsonloader:bench", () -> index);
+    }
+
+    @Benchmark
+    public Object getResourceHit() {
+        next = (next + 1) % textures;
+        return pack.getResource(PackType.CLIENT_RESOURCES, hits[next]);
+    }
+
+    @Benchmark
+    public Object getResourceMiss() {
+        next = (next + 1) % textures;
+        return pack.getResource(PackType.CLIENT_RESOURCES, misses[next]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void listResources(Blackhole blackhole) {
+        pack.listResources(PackType.CLIENT_RESOURCES, NAMESPACE, "textures", (location, supplier) -> blackhole.consume(location));
+    }
+}
@@ -2,15 +2,18 @@ package com.jsonloader.loader;
 
 import com.mojang.logging.LogUtils;
 import com.jsonloader.loader.core.commands.ListModsCommand;
+import com.jsonloader.loader.core.drops.DropsManager;
 import com.jsonloader.loader.core.init.BlockInit;
 import com.jsonloader.loader.core.init.CreativeTabInit;
 import com.jsonloader.loader.core.init.ItemInit;
+import com.jsonloader.loader.core.init.PropertyTemplates;
 import com.jsonloader.loader.core.loader.BlockDefinition;
-import com.jsonloader.loader.core.loader.JsonBlockLoader;
-import com.jsonloader.loader.core.loader.JsonItemLoader;
-import com.jsonloader.loader.core.loader.JsonDropsLoader;
+import com.jsonloader.loader.core.loader.DefinitionRepository;
 import com.jsonloader.loader.core.loader.JsonModLoader;
+import com.jsonloader.loader.core.loader.JsonModsWatcher;
 import com.jsonloader.loader.core.loader.ItemDefinition;
+import com.jsonloader.loader.core.loader.ReloadCoordinator;
+import com.jsonloader.loader.core.metrics.MetricsExporter;
 import com.jsonloader.loader.core.texture.DynamicTextureManager;
 import com.jsonloader.loader.core.texture.DynamicResourcePackManager;
 import net.minecraft.client.Minecraft;
@@ -22,6 +25,7 @@ import net.minecraftforge.event.AddPackFindersEvent;
 import net.minecraftforge.event.BuildCreativeModeTabContentsEvent;
 import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.event.server.ServerStartingEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -52,11 +56,12 @@ public class JSONloader { // Renamed class
         JsonModLoader.loadAllMods();
         LOGGER.info("Carregamento de mods externos concluído na inicialização.");
         
-        // Carregamos os mods internos para compatibilidade
+        // Carregamos os mods internos para compatibilidade.
+        // As definições ficam no DefinitionRepository e são reaproveitadas pelo BlockInit, ItemInit e texturas
         LOGGER.info("Carregando definições internas de blocos, itens e drops...");
-        JsonBlockLoader.loadBlockDefinitions();
-        JsonItemLoader.loadItemDefinitions();
-        JsonDropsLoader.loadDropsDefinitions();
+        DefinitionRepository.blocks();
+        DefinitionRepository.items();
+        DefinitionRepository.drops();
         LOGGER.info("Carregamento de definições internas concluído.");
 
         // Register the commonSetup method for modloading
@@ -82,6 +87,10 @@ public class JSONloader { // Renamed class
         event.enqueueWork(() -> {
             LOGGER.info("Configurando texturas dinâmicas e outros recursos pós-registro...");
             // Qualquer configuração pós-registro pode ser feita aqui
+            // Os registros já criaram todos os blocos e itens; mostra quantos compartilharam propriedades
+            PropertyTemplates.logStats();
+            // Com os itens registrados, as tabelas de drops podem resolver os IDs dos itens
+            DropsManager.init();
         });
     }
 
@@ -103,6 +112,25 @@ public class JSONloader { // Renamed class
         ListModsCommand.register(event.getDispatcher());
     }
 
+    // Observar a pasta jsonmods enquanto o servidor estiver rodando (-Djsonloader.watch=true)
+    @SubscribeEvent
+    public void onServerStarting(ServerStartingEvent event) {
+        if (JsonModsWatcher.isEnabled()) {
+            JsonModsWatcher.start(event.getServer());
+        }
+        // Exportar métricas no formato do Prometheus (-Djsonloader.metrics.file ou -Djsonloader.metrics.port)
+        if (MetricsExporter.isEnabled()) {
+            MetricsExporter.start();
+        }
+    }
+
+    @SubscribeEvent
+    public void onServerStopping(ServerStoppingEvent event) {
+        JsonModsWatcher.stop();
+        ReloadCoordinator.reset();
+        MetricsExporter.stop();
+    }
+
     // Client-specific setup
     // Update Mod.EventBusSubscriber with the new MODID
     @Mod.EventBusSubscriber(modid = JSONloader.MODID, bus = Mod.EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
@@ -114,8 +142,8 @@ public class JSONloader { // Renamed class
             // --- Dynamic Texture Registration ---
             event.enqueueWork(() -> {
                 LOGGER.info("Enqueueing dynamic texture registration...");
-                List<BlockDefinition> blockDefinitions = JsonBlockLoader.loadBlockDefinitions();
-                List<ItemDefinition> itemDefinitions = JsonItemLoader.loadItemDefinitions();
+                List<BlockDefinition> blockDefinitions = DefinitionRepository.blocks();
+                List<ItemDefinition> itemDefinitions = DefinitionRepository.items();
                 
                 if (!blockDefinitions.isEmpty()) {
                     DynamicTextureManager.registerDynamicTextures(blockDefinitions);
@@ -130,6 +158,8 @@ public class JSONloader { // Renamed class
                 } else {
                     LOGGER.warn("No item definitions loaded for dynamic texture registration.");
                 }
+                
+                DefinitionRepository.logStats();
             });
         }
     }
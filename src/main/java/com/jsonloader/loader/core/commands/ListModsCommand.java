@@ -2,7 +2,13 @@ package com.jsonloader.loader.core.commands;
 
 import com.jsonloader.loader.JSONloader;
 import com.jsonloader.loader.core.loader.JsonModLoader;
+import com.jsonloader.loader.core.loader.LoadProfiler;
 import com.jsonloader.loader.core.loader.LoadedMod;
+import com.jsonloader.loader.core.loader.MemoryFootprint;
+import com.jsonloader.loader.core.loader.ModGeneration;
+import com.jsonloader.loader.core.loader.ReloadCoordinator;
+import com.jsonloader.loader.core.loader.ReloadProgress;
+import com.jsonloader.loader.core.loader.ReloadResult;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
@@ -11,10 +17,17 @@ import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +35,7 @@ import java.util.stream.Collectors;
  */
 public class ListModsCommand {
     private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " ListModsCommand");
+    private static final int DEFAULT_PROFILE_TOP = 10;
 
     /**
      * Registra o comando no dispatcher.
@@ -41,8 +55,21 @@ public class ListModsCommand {
                 .then(Commands.literal("reload")
                     .requires(source -> source.hasPermission(2)) // Nível 2 = operadores
                     .executes(ListModsCommand::reloadMods))
+                .then(Commands.literal("rollback")
+                    .requires(source -> source.hasPermission(2)) // Nível 2 = operadores
+                    .executes(ListModsCommand::rollbackMods))
                 .then(Commands.literal("count")
                     .executes(ListModsCommand::countMods))
+                .then(Commands.literal("profile")
+                    .requires(source -> source.hasPermission(2)) // Nível 2 = operadores
+                    .executes(context -> showProfile(context, DEFAULT_PROFILE_TOP))
+                    .then(Commands.argument("top", IntegerArgumentType.integer(1, 100))
+                        .executes(context -> showProfile(context, IntegerArgumentType.getInteger(context, "top")))))
+                .then(Commands.literal("memory")
+                    .requires(source -> source.hasPermission(2)) // Nível 2 = operadores
+                    .executes(context -> showMemory(context, DEFAULT_PROFILE_TOP))
+                    .then(Commands.argument("top", IntegerArgumentType.integer(1, 100))
+                        .executes(context -> showMemory(context, IntegerArgumentType.getInteger(context, "top")))))
         );
         
         LOGGER.info("[Comando] Comando /jsonmods registrado com sucesso");
@@ -79,12 +106,7 @@ public class ListModsCommand {
      */
     private static int showModInfo(CommandContext<CommandSourceStack> context, String modId) {
         CommandSourceStack source = context.getSource();
-        List<LoadedMod> mods = JsonModLoader.getLoadedMods();
-        
-        LoadedMod mod = mods.stream()
-                .filter(m -> m.modId().equalsIgnoreCase(modId))
-                .findFirst()
-                .orElse(null);
+        LoadedMod mod = JsonModLoader.getLoadedMod(modId);
         
         if (mod == null) {
             source.sendFailure(Component.literal("§cMod não encontrado: " + modId));
@@ -102,26 +124,89 @@ public class ListModsCommand {
     }
     
     /**
-     * Recarrega todos os mods.
+     * Recarrega os mods JSON cujas pastas foram adicionadas, alteradas ou removidas.
+     * A leitura roda fora da thread principal; o comando retorna imediatamente e o andamento
+     * é enviado ao jogador até a nova geração ser ativada.
      */
     private static int reloadMods(CommandContext<CommandSourceStack> context) {
         CommandSourceStack source = context.getSource();
-        
-        source.sendSuccess(() -> Component.literal("§6Recarregando mods JSON..."), false);
+        MinecraftServer server = source.getServer();
         LOGGER.info("[Comando] Recarregamento de mods solicitado por {}", source.getTextName());
         
-        // Limpa a lista de mods carregados
-        JsonModLoader.clearLoadedMods();
+        // Recarrega apenas o que mudou desde o último carregamento
+        // O ouvinte é registrado antes do início, para não perder nenhum aviso de andamento
+        ReloadCoordinator.ReloadJob job = ReloadCoordinator.request(null, server, new CommandReloadProgress(source, server));
+        if (job.isStarted()) {
+            source.sendSuccess(() -> Component.literal("§6Recarregando mods JSON..."), false);
+        } else {
+            ReloadCoordinator.ReloadJob running = ReloadCoordinator.getRunning();
+            String progress = running != null && running.total() >= 0 ? 
+                " (" + running.parsed() + "/" + running.total() + " mods lidos)" : "";
+            source.sendSuccess(() -> Component.literal("§eJá existe um recarregamento em andamento" + progress + 
+                "; este pedido será atendido logo em seguida."), false);
+        }
         
-        // Recarrega todos os mods
-        JsonModLoader.loadAllMods();
+        job.result().whenComplete((result, error) -> server.execute(() -> sendReloadResult(source, result, error)));
+        return 1;
+    }
+    
+    /**
+     * Envia o resumo de um recarregamento concluído.
+     */
+    private static void sendReloadResult(CommandSourceStack source, ReloadResult result, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            source.sendFailure(Component.literal(cause instanceof CancellationException ? 
+                "§cRecarregamento cancelado." : "§cErro durante o recarregamento: " + cause.getMessage()));
+            return;
+        }
         
         List<LoadedMod> mods = JsonModLoader.getLoadedMods();
+        if (result.rejected()) {
+            sendReloadLine(source, "§cCom falha", result.failed());
+            source.sendFailure(Component.literal("§cRecarregamento descartado: mods já carregados falharam. " + 
+                "Nenhuma alteração foi aplicada (geração " + result.generation() + " continua ativa)."));
+        } else if (!result.hasChanges() && result.failed().isEmpty()) {
+            source.sendSuccess(() -> Component.literal("§aNenhuma alteração encontrada (" + result.unchanged() + 
+                " mods inalterados, " + result.durationMillis() + " ms)."), false);
+        } else {
+            sendReloadLine(source, "§aAdicionados", result.added());
+            sendReloadLine(source, "§eAlterados", result.changed());
+            sendReloadLine(source, "§7Removidos", result.removed());
+            sendReloadLine(source, "§cCom falha", result.failed());
+            source.sendSuccess(() -> Component.literal("§aRecarregamento concluído em " + result.durationMillis() + 
+                " ms! " + mods.size() + " mods carregados, " + result.unchanged() + " inalterados (geração " + 
+                result.generation() + ")."), false);
+        }
         
-        source.sendSuccess(() -> Component.literal("§aRecarregamento concluído! " + mods.size() + " mods carregados."), false);
         LOGGER.info("[Comando] Recarregamento concluído, {} mods carregados", mods.size());
+    }
+    
+    /**
+     * Volta para a geração de mods anterior ao último recarregamento.
+     */
+    private static int rollbackMods(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        LOGGER.info("[Comando] Rollback de mods solicitado por {}", source.getTextName());
         
-        return mods.size();
+        ModGeneration generation = JsonModLoader.rollbackReload();
+        if (generation == null) {
+            source.sendFailure(Component.literal("§cNão há geração anterior para restaurar."));
+            return 0;
+        }
+        
+        source.sendSuccess(() -> Component.literal("§aGeração " + generation.number() + " restaurada: " + 
+            generation.mods().mods().size() + " mods carregados."), true);
+        return generation.mods().mods().size();
+    }
+    
+    /**
+     * Envia uma linha do resumo de recarregamento, se a lista não estiver vazia.
+     */
+    private static void sendReloadLine(CommandSourceStack source, String label, List<String> modIds) {
+        if (!modIds.isEmpty()) {
+            source.sendSuccess(() -> Component.literal(label + " (" + modIds.size() + "): §f" + String.join(", ", modIds)), false);
+        }
     }
     
     /**
@@ -152,4 +237,145 @@ public class ListModsCommand {
         
         return mods.size();
     }
+    
+    /**
+     * Mostra os tempos do último carregamento: o total de cada fase e os mods mais lentos.
+     */
+    private static int showProfile(CommandContext<CommandSourceStack> context, int top) {
+        CommandSourceStack source = context.getSource();
+        LoadProfiler.Profile profile = LoadProfiler.getLastProfile();
+        
+        if (profile == null) {
+            source.sendFailure(Component.literal("§cNenhum carregamento medido ainda."));
+            return 0;
+        }
+        
+        long phaseNanos = Math.max(1L, profile.phaseNanos());
+        source.sendSuccess(() -> Component.literal("§2=== Perfil do " + profile.label() + " (" + 
+            formatMillis(profile.wallNanos()) + ", " + profile.mods().size() + " mods) ==="), false);
+        profile.phaseTotals().forEach((phase, nanos) -> 
+            source.sendSuccess(() -> Component.literal("§7" + phase.label() + ": §a" + formatMillis(nanos) + 
+                " §7(" + (nanos * 100 / phaseNanos) + "%)"), false));
+        
+        source.sendSuccess(() -> Component.literal("§2Mods mais lentos:"), false);
+        for (LoadProfiler.ModTiming mod : profile.slowest(top)) {
+            String phases = mod.phaseNanos().entrySet().stream()
+                .sorted(Map.Entry.<LoadProfiler.Phase, Long>comparingByValue().reversed())
+                .limit(3)
+                .map(entry -> entry.getKey().label() + " " + formatMillis(entry.getValue()))
+                .collect(Collectors.joining(", "));
+            source.sendSuccess(() -> Component.literal("§e" + mod.folderName() + ": §a" + 
+                formatMillis(mod.totalNanos()) + " §7(" + phases + ")"), false);
+        }
+        if (profile.truncated()) {
+            source.sendSuccess(() -> Component.literal("§7Alguns mods ficaram de fora da lista pelo limite de tamanho."), false);
+        }
+        source.sendSuccess(() -> Component.literal("§7Relatório completo em: §f" + LoadProfiler.getProfileFile()), false);
+        
+        LOGGER.info("[Comando] Perfil de carregamento exibido para {}", source.getTextName());
+        return profile.mods().size();
+    }
+    
+    /**
+     * Mostra a memória estimada dos mods carregados, comparada com os orçamentos.
+     */
+    private static int showMemory(CommandContext<CommandSourceStack> context, int top) {
+        CommandSourceStack source = context.getSource();
+        MemoryFootprint.Report report = MemoryFootprint.estimate();
+        
+        if (report.mods().isEmpty()) {
+            source.sendFailure(Component.literal("§cNenhum mod JSON carregado."));
+            return 0;
+        }
+        
+        long total = report.totalBytes();
+        String totalColor = total > report.totalBudgetBytes() ? "§c" : "§a";
+        source.sendSuccess(() -> Component.literal("§2=== Memória estimada dos mods JSON (geração " + report.generation() + ") ==="), false);
+        source.sendSuccess(() -> Component.literal("§7Total: " + totalColor + formatBytes(total) + " §7de " + 
+            formatBytes(report.totalBudgetBytes()) + " (" + (total * 100 / report.totalBudgetBytes()) + "%)"), false);
+        
+        for (MemoryFootprint.ModFootprint mod : report.mods().subList(0, Math.min(top, report.mods().size()))) {
+            String color = report.isOverBudget(mod) ? "§c" : "§a";
+            source.sendSuccess(() -> Component.literal("§e" + mod.modId() + ": " + color + formatBytes(mod.totalBytes()) + 
+                " §7de " + formatBytes(report.modBudgetBytes()) + " (definições " + formatBytes(mod.definitionBytes()) + 
+                ", PNG " + formatBytes(mod.texturePayloadBytes()) + 
+                ", JSON gerado " + formatBytes(mod.generatedJsonBytes()) + ")"), false);
+        }
+        
+        int overBudget = report.overBudgetCount();
+        if (overBudget > 0) {
+            source.sendSuccess(() -> Component.literal("§c" + overBudget + " mods acima do orçamento de " + 
+                formatBytes(report.modBudgetBytes()) + " por mod."), false);
+        }
+        
+        LOGGER.info("[Comando] Memória dos mods exibida para {}: {} estimados em {} mods", 
+            source.getTextName(), formatBytes(total), report.mods().size());
+        return report.mods().size();
+    }
+    
+    /**
+     * Formata um tamanho em bytes como KB ou MB com uma casa decimal.
+     */
+    private static String formatBytes(long bytes) {
+        if (bytes >= 1024L * 1024L) {
+            return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+        }
+        return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+    }
+    
+    /**
+     * Formata um tempo em nanossegundos como milissegundos com uma casa decimal.
+     */
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f ms", nanos / 1_000_000.0);
+    }
+    
+    /**
+     * Envia ao jogador o andamento da leitura de um recarregamento: cada falha assim que
+     * acontece e o progresso no máximo uma vez por segundo. As mensagens são enviadas
+     * pela thread principal.
+     */
+    private static final class CommandReloadProgress implements ReloadProgress {
+        private static final long REPORT_INTERVAL_NANOS = 1_000_000_000L;
+        
+        private final CommandSourceStack source;
+        private final MinecraftServer server;
+        private final AtomicLong lastReport = new AtomicLong(System.nanoTime());
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile long startNanos = System.nanoTime();
+        
+        private CommandReloadProgress(CommandSourceStack source, MinecraftServer server) {
+            this.source = source;
+            this.server = server;
+        }
+        
+        @Override
+        public void onStarted(int total) {
+            // Também chamado de novo quando a leitura é refeita sobre uma geração nova
+            startNanos = System.nanoTime();
+            lastReport.set(startNanos);
+            failed.set(0);
+            if (total > 0) {
+                server.execute(() -> source.sendSuccess(() -> Component.literal("§7Lendo " + total + 
+                    " mods novos ou alterados..."), false));
+            }
+        }
+        
+        @Override
+        public void onModParsed(String folderName, boolean success, int parsed, int total) {
+            if (!success) {
+                failed.incrementAndGet();
+                server.execute(() -> source.sendFailure(Component.literal("§cFalha ao ler " + folderName)));
+            }
+            
+            long now = System.nanoTime();
+            long last = lastReport.get();
+            if (parsed < total && now - last >= REPORT_INTERVAL_NANOS && lastReport.compareAndSet(last, now)) {
+                long elapsedMillis = (now - startNanos) / 1_000_000L;
+                int failures = failed.get();
+                server.execute(() -> source.sendSuccess(() -> Component.literal("§7Progresso: " + parsed + "/" + total + 
+                    " mods lidos, " + failures + " com falha (" + elapsedMillis + " ms)"), false));
+            }
+        }
+    }
 }
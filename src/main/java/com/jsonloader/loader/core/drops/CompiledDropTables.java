@@ -0,0 +1,304 @@
+package com.jsonloader.loader.core.drops;
+
+import com.jsonloader.loader.core.loader.BlockDrop;
+import com.jsonloader.loader.core.loader.DropCondition;
+import com.jsonloader.loader.core.loader.DropEntry;
+import com.jsonloader.loader.core.loader.MobDrop;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.IForgeRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Drop tables compiled for the event handlers: every entry has its item resolved from the
+ * registry, its conditions folded into a single predicate and its count bounds checked, so
+ * evaluating a drop is a flat loop over an array. Entries whose item is not registered, or
+ * whose count range is empty, are rejected here once instead of failing on every event.
+ * The tables are keyed by the {@link Block} and {@link EntityType} instances themselves, so
+ * a block or mob without JSON drops costs a single identity-hash probe; drops for ids that
+ * are not registered are rejected as well.
+ * Compiled from one {@link DropTables} instance when its mod generation is built, so a reload
+ * is validated before it becomes active; the registries must already be populated.
+ */
+public final class CompiledDropTables {
+    // Never modified after compile; only read by the handlers
+    private final IdentityHashMap<Block, Table> blockDrops;
+    private final IdentityHashMap<EntityType<?>, Table> mobDrops;
+    private final List<String> rejected;
+    private final int compiledEntries;
+
+    private CompiledDropTables(IdentityHashMap<Block, Table> blockDrops, IdentityHashMap<EntityType<?>, Table> mobDrops,
+                               List<String> rejected, int compiledEntries) {
+        this.blockDrops = blockDrops;
+        this.mobDrops = mobDrops;
+        this.rejected = rejected;
+        this.compiledEntries = compiledEntries;
+    }
+
+    /**
+     * Precomputed test of a drop entry's conditions against the event's {@link DropContext}.
+     */
+    @FunctionalInterface
+    interface Condition {
+        Condition ALWAYS = context -> true;
+
+        boolean test(DropContext context);
+
+        default Condition and(Condition other) {
+            return this == ALWAYS ? other : context -> test(context) && other.test(context);
+        }
+    }
+
+    /**
+     * A compiled drop entry.
+     * @param itemId The entry's item id as written in the definition (used for metrics and logging)
+     * @param countRange Number of possible base counts ({@code count_max - count_min + 1}, at least 1)
+     * @param bonusMultiplier Fortune (blocks) or looting (mobs) multiplier, 0 if the entry has none
+     * @param needs The {@link DropContext} values this entry reads ({@code DropContext.NEEDS_*} flags)
+     */
+    record Entry(Item item, String itemId, int countMin, int countRange, float chance, Condition condition,
+                 float bonusMultiplier, int needs) {}
+
+    /**
+     * The compiled entries of one block or mob, in definition order.
+     * The target id is the registry id, kept for JFR events and logging; {@code needs} combines
+     * the needs of every entry, so the event reads each value of its context at most once.
+     */
+    static final class Table {
+        final String targetId;
+        final Entry[] entries;
+        final int needs;
+
+        private Table(String targetId, Entry[] entries) {
+            this.targetId = targetId;
+            this.entries = entries;
+            int combined = 0;
+            for (Entry entry : entries) {
+                combined |= entry.needs();
+            }
+            this.needs = combined;
+        }
+    }
+
+    /**
+     * Compiles every block and mob drop of the given tables.
+     */
+    public static CompiledDropTables compile(DropTables source) {
+        List<String> rejected = new ArrayList<>();
+        IdentityHashMap<Block, Table> blockDrops = new IdentityHashMap<>();
+        IdentityHashMap<EntityType<?>, Table> mobDrops = new IdentityHashMap<>();
+        int compiled = 0;
+        // Sorted so that two ids naming the same block or mob always resolve the same way
+        for (BlockDrop blockDrop : new TreeMap<>(source.blockDrops()).values()) {
+            Block block = resolve(ForgeRegistries.BLOCKS, blockDrop.block_id());
+            if (block == null) {
+                rejected.add(blockDrop.block_id() + ": unknown block");
+                continue;
+            }
+            Table table = compileTable(ForgeRegistries.BLOCKS.getKey(block).toString(), blockDrop.drops(), true,
+                    CompiledDropTables::resolveItem, CompiledDropTables::toolRank, rejected);
+            if (table != null && put(blockDrops, block, table, blockDrop.block_id(), rejected)) {
+                compiled += table.entries.length;
+            }
+        }
+        for (MobDrop mobDrop : new TreeMap<>(source.mobDrops()).values()) {
+            EntityType<?> entityType = resolve(ForgeRegistries.ENTITY_TYPES, mobDrop.mob_id());
+            if (entityType == null) {
+                rejected.add(mobDrop.mob_id() + ": unknown entity type");
+                continue;
+            }
+            Table table = compileTable(ForgeRegistries.ENTITY_TYPES.getKey(entityType).toString(), mobDrop.drops(), false,
+                    CompiledDropTables::resolveItem, CompiledDropTables::toolRank, rejected);
+            if (table != null && put(mobDrops, entityType, table, mobDrop.mob_id(), rejected)) {
+                compiled += table.entries.length;
+            }
+        }
+        Collections.sort(rejected);
+        return new CompiledDropTables(blockDrops, mobDrops, Collections.unmodifiableList(rejected), compiled);
+    }
+
+    private static <K> boolean put(Map<K, Table> tables, K key, Table table, String id, List<String> rejected) {
+        if (tables.containsKey(key)) {
+            rejected.add(id + ": same " + (key instanceof Block ? "block" : "entity type") + " as "
+                    + tables.get(key).targetId + ", ignored");
+            return false;
+        }
+        tables.put(key, table);
+        return true;
+    }
+
+    /**
+     * Compiles the drops of one block or mob.
+     * @param items Resolves item ids, returning null for unknown ones
+     * @param toolRanks Ranks {@code min_tool_tier} names (see {@link ToolTierRanks#rank(String)})
+     * @return The table, or null if no entry could be compiled
+     */
+    static Table compileTable(String targetId, List<DropEntry> drops, boolean blockDrop, Function<String, Item> items,
+                              ToIntFunction<String> toolRanks, List<String> rejected) {
+        if (drops == null || drops.isEmpty()) {
+            return null;
+        }
+        List<Entry> entries = new ArrayList<>(drops.size());
+        for (DropEntry drop : drops) {
+            Entry entry = compileEntry(targetId, drop, blockDrop, items, toolRanks, rejected);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries.isEmpty() ? null : new Table(targetId, entries.toArray(new Entry[0]));
+    }
+
+    private static Entry compileEntry(String targetId, DropEntry drop, boolean blockDrop, Function<String, Item> items,
+                                      ToIntFunction<String> toolRanks, List<String> rejected) {
+        Item item = items.apply(drop.item_id());
+        if (item == null) {
+            rejected.add(targetId + " -> " + drop.item_id() + ": unknown item");
+            return null;
+        }
+        if (drop.count_max() < drop.count_min()) {
+            rejected.add(targetId + " -> " + drop.item_id() + ": count_max " + drop.count_max()
+                    + " is below count_min " + drop.count_min());
+            return null;
+        }
+
+        DropCondition conditions = drop.conditions();
+        Condition condition = Condition.ALWAYS;
+        float bonusMultiplier = 0.0f;
+        int needs = 0;
+        if (conditions != null && blockDrop) {
+            int minRank = minToolRank(targetId, drop, toolRanks, rejected);
+            condition = blockCondition(conditions, minRank);
+            needs = blockNeeds(conditions, minRank);
+        } else if (conditions != null) {
+            condition = mobCondition(conditions);
+            needs = mobNeeds(conditions);
+        }
+        if (conditions != null) {
+            bonusMultiplier = Math.max(0.0f, blockDrop ? conditions.fortune_multiplier() : conditions.looting_multiplier());
+            if (bonusMultiplier > 0) {
+                needs |= DropContext.NEEDS_BONUS;
+            }
+        }
+        return new Entry(item, drop.item_id(), drop.count_min(), drop.count_max() - drop.count_min() + 1,
+                drop.chance(), condition, bonusMultiplier, needs);
+    }
+
+    // The rank a tool needs for the entry, or NONE if the entry has no tier requirement
+    private static int minToolRank(String targetId, DropEntry drop, ToIntFunction<String> toolRanks, List<String> rejected) {
+        DropCondition conditions = drop.conditions();
+        String minTier = conditions.min_tool_tier();
+        if (!conditions.requires_tool() || minTier == null || minTier.isEmpty()) {
+            return ToolTierRanks.NONE;
+        }
+        int rank = toolRanks.applyAsInt(minTier);
+        if (rank == ToolTierRanks.NONE) {
+            rejected.add(targetId + " -> " + drop.item_id() + ": unknown min_tool_tier '" + minTier + "', tier not checked");
+        }
+        return rank;
+    }
+
+    // Only the checks an entry actually asks for end up in its predicate, one lambda per check
+    private static Condition blockCondition(DropCondition conditions, int minRank) {
+        Condition condition = Condition.ALWAYS;
+        if (conditions.requires_silk_touch()) {
+            condition = condition.and(context -> context.silkTouch);
+        }
+        if (conditions.requires_tool()) {
+            condition = condition.and(context -> !context.toolEmpty);
+        }
+        if (minRank != ToolTierRanks.NONE) {
+            condition = condition.and(context -> context.toolRank >= minRank);
+        }
+        return condition;
+    }
+
+    private static int blockNeeds(DropCondition conditions, int minRank) {
+        int needs = conditions.requires_silk_touch() ? DropContext.NEEDS_SILK_TOUCH : 0;
+        return minRank != ToolTierRanks.NONE ? needs | DropContext.NEEDS_TOOL_TIER : needs;
+    }
+
+    private static Condition mobCondition(DropCondition conditions) {
+        Condition condition = Condition.ALWAYS;
+        if (conditions.requires_player_kill()) {
+            condition = condition.and(context -> context.playerKill);
+        }
+        if (conditions.requires_fire_aspect()) {
+            condition = condition.and(context -> context.fireAspect);
+        }
+        return condition;
+    }
+
+    private static int mobNeeds(DropCondition conditions) {
+        return conditions.requires_fire_aspect() ? DropContext.NEEDS_FIRE_ASPECT : 0;
+    }
+
+    private static Item resolveItem(String itemId) {
+        return resolve(ForgeRegistries.ITEMS, itemId);
+    }
+
+    private static int toolRank(String tierName) {
+        return ToolTierRanks.get().rank(tierName);
+    }
+
+    private static <V> V resolve(IForgeRegistry<V> registry, String id) {
+        ResourceLocation key = id != null ? ResourceLocation.tryParse(id) : null;
+        // getValue falls back to the default entry (air, pig) for unknown keys, so check the key first
+        if (key == null || !registry.containsKey(key)) {
+            return null;
+        }
+        return registry.getValue(key);
+    }
+
+    /**
+     * Returns the compiled drops of a block, or null if it has none.
+     */
+    Table blockDrops(Block block) {
+        return blockDrops.get(block);
+    }
+
+    /**
+     * Returns the compiled drops of a mob, or null if it has none.
+     */
+    Table mobDrops(EntityType<?> entityType) {
+        return mobDrops.get(entityType);
+    }
+
+    /**
+     * Number of blocks with compiled drops.
+     */
+    public int blockCount() {
+        return blockDrops.size();
+    }
+
+    /**
+     * Number of mobs with compiled drops.
+     */
+    public int mobCount() {
+        return mobDrops.size();
+    }
+
+    /**
+     * Descriptions of the rejected or partly ignored entries ("target -> item: reason"), sorted.
+     */
+    public List<String> rejected() {
+        return rejected;
+    }
+
+    /**
+     * Number of entries that were compiled.
+     */
+    public int compiledEntries() {
+        return compiledEntries;
+    }
+}
@@ -0,0 +1,62 @@
+package com.jsonloader.loader.core.drops;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.enchantment.EnchantmentHelper;
+import net.minecraft.world.item.enchantment.Enchantments;
+
+/**
+ * What a drop event knows about the tool (or weapon) and the kill, read once per event and
+ * shared by every entry of the table. Only the values some entry of the table needs are read
+ * (see {@link CompiledDropTables.Table#needs}); the others keep their defaults.
+ */
+final class DropContext {
+    static final int NEEDS_SILK_TOUCH = 1;
+    static final int NEEDS_FIRE_ASPECT = 1 << 1;
+    static final int NEEDS_BONUS = 1 << 2;
+    static final int NEEDS_TOOL_TIER = 1 << 3;
+
+    final boolean toolEmpty;
+    final boolean playerKill;
+    final boolean silkTouch;
+    final boolean fireAspect;
+    // Fortune for blocks, looting for mobs
+    final int bonusLevel;
+    // Tier rank of the tool (see ToolTierRanks), NONE if it cannot dig
+    final int toolRank;
+
+    /**
+     * Builds a context from values already read; the event handlers use {@link #forBlock} and {@link #forMob}.
+     */
+    DropContext(boolean toolEmpty, boolean playerKill, boolean silkTouch, boolean fireAspect, int bonusLevel,
+                        int toolRank) {
+        this.toolEmpty = toolEmpty;
+        this.playerKill = playerKill;
+        this.silkTouch = silkTouch;
+        this.fireAspect = fireAspect;
+        this.bonusLevel = bonusLevel;
+        this.toolRank = toolRank;
+    }
+
+    /**
+     * Reads the context of a block break.
+     * @param needs The {@code NEEDS_*} flags of the block's table
+     */
+    static DropContext forBlock(ItemStack tool, int needs) {
+        return new DropContext(tool.isEmpty(), true,
+                (needs & NEEDS_SILK_TOUCH) != 0 && EnchantmentHelper.getItemEnchantmentLevel(Enchantments.SILK_TOUCH, tool) > 0,
+                false,
+                (needs & NEEDS_BONUS) != 0 ? EnchantmentHelper.getItemEnchantmentLevel(Enchantments.BLOCK_FORTUNE, tool) : 0,
+                (needs & NEEDS_TOOL_TIER) != 0 ? ToolTierRanks.get().rank(tool) : ToolTierRanks.NONE);
+    }
+
+    /**
+     * Reads the context of a mob death.
+     * @param needs The {@code NEEDS_*} flags of the mob's table
+     */
+    static DropContext forMob(ItemStack weapon, boolean playerKill, int needs) {
+        return new DropContext(weapon.isEmpty(), playerKill, false,
+                (needs & NEEDS_FIRE_ASPECT) != 0 && EnchantmentHelper.getItemEnchantmentLevel(Enchantments.FIRE_ASPECT, weapon) > 0,
+                (needs & NEEDS_BONUS) != 0 ? EnchantmentHelper.getItemEnchantmentLevel(Enchantments.MOB_LOOTING, weapon) : 0,
+                ToolTierRanks.NONE);
+    }
+}
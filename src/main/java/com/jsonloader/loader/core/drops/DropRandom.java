@@ -0,0 +1,38 @@
+package com.jsonloader.loader.core.drops;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of the random numbers used for drop chances and counts. The handlers ask for a
+ * generator once per event and use it only on the calling thread, so implementations never
+ * need to share one generator between threads.
+ */
+@FunctionalInterface
+public interface DropRandom {
+    /**
+     * One generator per thread, without any shared state between threads.
+     */
+    DropRandom THREAD_LOCAL = ThreadLocalRandom::current;
+
+    /**
+     * Returns the generator for the current thread.
+     */
+    RandomGenerator generator();
+
+    /**
+     * Deterministic source for tests and simulations: each thread gets a {@link SplittableRandom}
+     * split from one seeded root, in the order the threads first roll a drop. With a single thread
+     * (or a fixed thread order) the same seed always produces the same drops.
+     */
+    static DropRandom seeded(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        ThreadLocal<SplittableRandom> generators = ThreadLocal.withInitial(() -> {
+            synchronized (root) {
+                return root.split();
+            }
+        });
+        return generators::get;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jsonloader.loader.core.drops;
+
+import com.jsonloader.loader.core.loader.BlockDrop;
+import com.jsonloader.loader.core.loader.DropsDefinition;
+import com.jsonloader.loader.core.loader.LoadedMod;
+import com.jsonloader.loader.core.loader.MobDrop;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable drop lookup tables for one generation of loaded mods: block drops by block id
+ * and mob drops by entity id, built from the bundled drops.json and every loaded jsonmod.
+ * A new instance is built for each generation and swapped in together with it.
+ */
+public record DropTables(Map<String, BlockDrop> blockDrops, Map<String, MobDrop> mobDrops) {
+    public static final DropTables EMPTY = new DropTables(Map.of(), Map.of());
+
+    /**
+     * Builds the tables for a generation. Later sources override earlier ones for the same id:
+     * jsonmods (in the given order) override the bundled definitions.
+     * @param bundled The bundled drops definition
+     * @param mods The loaded mods
+     */
+    public static DropTables compile(DropsDefinition bundled, Collection<LoadedMod> mods) {
+        Map<String, BlockDrop> blockDrops = new HashMap<>();
+        Map<String, MobDrop> mobDrops = new HashMap<>();
+        index(bundled, blockDrops, mobDrops);
+        for (LoadedMod mod : mods) {
+            index(mod.drops(), blockDrops, mobDrops);
+        }
+        return new DropTables(Collections.unmodifiableMap(blockDrops), Collections.unmodifiableMap(mobDrops));
+    }
+
+    private static void index(DropsDefinition drops, Map<String, BlockDrop> blockDrops, Map<String, MobDrop> mobDrops) {
+        if (drops == null) {
+            return;
+        }
+        if (drops.block_drops() != null) {
+            for (BlockDrop blockDrop : drops.block_drops()) {
+                blockDrops.put(blockDrop.block_id(), blockDrop);
+            }
+        }
+        if (drops.mob_drops() != null) {
+            for (MobDrop mobDrop : drops.mob_drops()) {
+                mobDrops.put(mobDrop.mob_id(), mobDrop);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.jsonloader.loader.core.drops;
+
+import com.jsonloader.loader.core.init.ItemInit;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Tier;
+import net.minecraft.world.item.TieredItem;
+import net.minecraftforge.common.TierSortingRegistry;
+import net.minecraftforge.common.ToolActions;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Rank of every digging tool in the item registry, from its actual {@link Tier}: a tool meets
+ * a {@code min_tool_tier} when its rank is at least the rank of that tier. Ranks follow Forge's
+ * tier sorting (wood and gold, then stone, iron, diamond and netherite), and tiers of the same
+ * level share one rank, so wood and gold are interchangeable. Modded tiers and the JSON tools
+ * created by {@link ItemInit} rank like any other tool of their tier.
+ * Built once, after the item registry is frozen; items added later have no rank.
+ */
+final class ToolTierRanks {
+    /**
+     * Rank of items that cannot dig (no pickaxe, axe or shovel action) or have no tier.
+     */
+    static final int NONE = -1;
+
+    private static volatile ToolTierRanks instance;
+
+    private final List<Tier> sortedTiers;
+    private final IdentityHashMap<Item, Integer> ranks = new IdentityHashMap<>();
+
+    private ToolTierRanks() {
+        this.sortedTiers = TierSortingRegistry.getSortedTiers();
+        for (Item item : ForgeRegistries.ITEMS.getValues()) {
+            if (item instanceof TieredItem tiered && tiered.getTier() != null && canDig(item)) {
+                ranks.put(item, rank(tiered.getTier()));
+            }
+        }
+    }
+
+    /**
+     * Returns the rank table, building it on first use.
+     */
+    static ToolTierRanks get() {
+        ToolTierRanks ranks = instance;
+        if (ranks == null) {
+            synchronized (ToolTierRanks.class) {
+                ranks = instance;
+                if (ranks == null) {
+                    ranks = new ToolTierRanks();
+                    instance = ranks;
+                }
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the rank of the tool, or {@link #NONE}.
+     */
+    int rank(ItemStack tool) {
+        Integer rank = ranks.get(tool.getItem());
+        return rank != null ? rank : NONE;
+    }
+
+    /**
+     * Returns the rank of a tier name as used in drops ("wood", "stone", "iron", "gold",
+     * "diamond" or "netherite"), or {@link #NONE} if the name is unknown.
+     */
+    int rank(String tierName) {
+        Tier tier = ItemInit.findTier(tierName);
+        return tier != null ? rank(tier) : NONE;
+    }
+
+    /**
+     * Number of tools with a rank.
+     */
+    int size() {
+        return ranks.size();
+    }
+
+    private int rank(Tier tier) {
+        int level = tier.getLevel();
+        if (!sortedTiers.contains(tier)) {
+            // Tiers outside Forge's sorting rank with the highest sorted level at or below theirs
+            int standing = -1;
+            for (Tier sorted : sortedTiers) {
+                if (sorted.getLevel() <= level) {
+                    standing = Math.max(standing, sorted.getLevel());
+                }
+            }
+            if (standing < 0) {
+                return 0;
+            }
+            level = standing;
+        }
+        // Tiers of the same level (wood and gold) share the rank of the first one in the sorting,
+        // so a gold tool meets "wood" but not "stone", and a wood tool meets "gold"
+        for (int i = 0; i < sortedTiers.size(); i++) {
+            if (sortedTiers.get(i).getLevel() == level) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    // Same capabilities the tier check has always required: pickaxe, axe or shovel digging
+    private static boolean canDig(Item item) {
+        ItemStack stack = new ItemStack(item);
+        return stack.canPerformAction(ToolActions.PICKAXE_DIG) ||
+               stack.canPerformAction(ToolActions.AXE_DIG) ||
+               stack.canPerformAction(ToolActions.SHOVEL_DIG);
+    }
+}
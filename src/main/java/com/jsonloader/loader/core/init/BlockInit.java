@@ -2,7 +2,7 @@ package com.jsonloader.loader.core.init;
 
 import com.jsonloader.loader.JSONloader; // Updated import
 import com.jsonloader.loader.core.loader.BlockDefinition;
-import com.jsonloader.loader.core.loader.JsonBlockLoader;
+import com.jsonloader.loader.core.loader.DefinitionRepository;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.block.Block;
@@ -30,7 +30,7 @@ public class BlockInit {
     // Static initializer block to load and register blocks from JSON
     static {
         LOGGER.info("Starting JSON block registration process.");
-        List<BlockDefinition> blockDefinitions = JsonBlockLoader.loadBlockDefinitions();
+        List<BlockDefinition> blockDefinitions = DefinitionRepository.blocks();
 
         if (blockDefinitions.isEmpty()) {
             LOGGER.warn("No block definitions found or loaded from JSON. No custom blocks will be registered.");
@@ -114,16 +114,34 @@ public class BlockInit {
         }
     }
 
-    // Helper method to create BlockBehaviour.Properties based on JSON definition
+    // Helper method to get the shared BlockBehaviour.Properties for a JSON definition
     private static BlockBehaviour.Properties createBlockProperties(BlockDefinition definition) {
-        BlockBehaviour.Properties properties;
         String materialStr = definition.material().toLowerCase();
 
-        // Determine base properties from material string using Forge 1.20.1+ methods
         switch (materialStr) {
             case "stone":
-                properties = BlockBehaviour.Properties.of().mapColor(MapColor.STONE).sound(SoundType.STONE);
+            case "wood":
+            case "metal":
+            case "dirt":
+            case "sand":
+                break;
+            default:
+                LOGGER.warn("Unknown material 	'{}' for block 	'{}'	. Defaulting to STONE.", materialStr, definition.id());
+                materialStr = "stone";
                 break;
+        }
+
+        // Definitions with the same material, strength and tool requirement share one template
+        return PropertyTemplates.block(PropertyTemplates.BlockKey.of(materialStr, definition.properties()),
+                BlockInit::buildBlockProperties);
+    }
+
+    // Helper method to build a BlockBehaviour.Properties template
+    private static BlockBehaviour.Properties buildBlockProperties(PropertyTemplates.BlockKey key) {
+        BlockBehaviour.Properties properties;
+
+        // Determine base properties from material string using Forge 1.20.1+ methods
+        switch (key.material()) {
             case "wood":
                 properties = BlockBehaviour.Properties.of().mapColor(MapColor.WOOD).sound(SoundType.WOOD);
                 break;
@@ -136,16 +154,16 @@ public class BlockInit {
             case "sand":
                 properties = BlockBehaviour.Properties.of().mapColor(MapColor.SAND).sound(SoundType.SAND);
                 break;
+            case "stone":
             default:
-                LOGGER.warn("Unknown material 	'{}' for block 	'{}'	. Defaulting to STONE.", materialStr, definition.id());
                 properties = BlockBehaviour.Properties.of().mapColor(MapColor.STONE).sound(SoundType.STONE);
                 break;
         }
 
         // Apply specific properties from JSON
-        properties.strength(definition.properties().hardness(), definition.properties().resistance());
+        properties.strength(key.hardness(), key.resistance());
 
-        if (definition.properties().requires_tool()) {
+        if (key.requiresTool()) {
             properties.requiresCorrectToolForDrops();
         }
 
@@ -1,9 +1,9 @@
 package com.jsonloader.loader.core.init;
 
 import com.jsonloader.loader.JSONloader;
+import com.jsonloader.loader.core.loader.DefinitionRepository;
 import com.jsonloader.loader.core.loader.ItemDefinition;
 import com.jsonloader.loader.core.loader.ItemProperties;
-import com.jsonloader.loader.core.loader.JsonItemLoader;
 import com.jsonloader.loader.core.texture.DynamicTextureManager;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.effect.MobEffectInstance;
@@ -18,7 +18,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -31,7 +30,7 @@ public class ItemInit {
     // Static initializer block to load and register items from JSON
     static {
         LOGGER.info("Starting JSON item registration process.");
-        List<ItemDefinition> itemDefinitions = JsonItemLoader.loadItemDefinitions();
+        List<ItemDefinition> itemDefinitions = DefinitionRepository.items();
 
         if (itemDefinitions.isEmpty()) {
             LOGGER.warn("No item definitions found or loaded from JSON. No custom items will be registered.");
@@ -185,36 +184,40 @@ public class ItemInit {
         return properties;
     }
 
-    // Helper method to create FoodProperties from JSON definition
+    // Helper method to get the shared FoodProperties for a JSON definition
     private static FoodProperties createFoodProperties(ItemProperties.FoodProperties foodProps) {
+        // Foods with the same nutrition and effects share one template, so effects are resolved once per template
+        return PropertyTemplates.food(PropertyTemplates.FoodKey.of(foodProps), ItemInit::buildFoodProperties);
+    }
+
+    // Helper method to build a FoodProperties template
+    private static FoodProperties buildFoodProperties(PropertyTemplates.FoodKey key) {
         FoodProperties.Builder builder = new FoodProperties.Builder()
-            .nutrition(foodProps.nutrition())
-            .saturationMod(foodProps.saturation_modifier());
+            .nutrition(key.nutrition())
+            .saturationMod(key.saturation());
         
-        if (foodProps.is_meat()) {
+        if (key.meat()) {
             builder.meat();
         }
         
-        if (foodProps.can_always_eat()) {
+        if (key.alwaysEat()) {
             builder.alwaysEat();
         }
         
         // Add effects if defined
-        if (foodProps.effects() != null) {
-            Arrays.stream(foodProps.effects()).forEach(effect -> {
-                try {
-                    // For simplicity, we're using a fixed set of effects
-                    // In a more complete implementation, you'd parse the effect_id string
-                    MobEffectInstance effectInstance = new MobEffectInstance(
-                        getMobEffectFromId(effect.effect_id()),
-                        effect.duration(),
-                        effect.amplifier()
-                    );
-                    builder.effect(effectInstance, effect.probability());
-                } catch (Exception e) {
-                    LOGGER.error("Failed to add effect {} to food item", effect.effect_id(), e);
-                }
-            });
+        for (PropertyTemplates.EffectKey effect : key.effects()) {
+            try {
+                // For simplicity, we're using a fixed set of effects
+                // In a more complete implementation, you'd parse the effect_id string
+                MobEffectInstance effectInstance = new MobEffectInstance(
+                    getMobEffectFromId(effect.effectId()),
+                    effect.duration(),
+                    effect.amplifier()
+                );
+                builder.effect(effectInstance, effect.probability());
+            } catch (Exception e) {
+                LOGGER.error("Failed to add effect {} to food item", effect.effectId(), e);
+            }
         }
         
         return builder.build();
@@ -306,6 +309,19 @@ public class ItemInit {
     
     // Helper method to get Tier from string
     private static Tier getTierFromString(String tierString) {
+        Tier tier = findTier(tierString);
+        return tier != null ? tier : Tiers.IRON; // Default fallback
+    }
+    
+    /**
+     * Retorna o tier de um nome usado nos JSONs ("wood", "stone", "iron", "gold", "diamond" ou "netherite").
+     * @param tierString Nome do tier, sem diferenciar maiúsculas
+     * @return O tier, ou null se o nome for desconhecido
+     */
+    public static Tier findTier(String tierString) {
+        if (tierString == null) {
+            return null;
+        }
         switch (tierString.toLowerCase()) {
             case "wood": return Tiers.WOOD;
             case "stone": return Tiers.STONE;
@@ -313,7 +329,7 @@ public class ItemInit {
             case "gold": return Tiers.GOLD;
             case "diamond": return Tiers.DIAMOND;
             case "netherite": return Tiers.NETHERITE;
-            default: return Tiers.IRON; // Default fallback
+            default: return null;
         }
     }
 }
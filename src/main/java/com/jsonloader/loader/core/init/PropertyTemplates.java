@@ -0,0 +1,124 @@
+package com.jsonloader.loader.core.init;
+
+import com.jsonloader.loader.JSONloader;
+import com.jsonloader.loader.core.loader.BlockProperties;
+import com.jsonloader.loader.core.loader.ItemProperties;
+import net.minecraft.world.food.FoodProperties;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Canonical block and food properties shared by every definition with the same inputs.
+ * Most packs reuse a handful of material/hardness and nutrition/effect combinations, so
+ * BlockInit and ItemInit ask for a template by key and only build (and resolve effects for)
+ * the first definition of each combination. Templates are never modified after they are built;
+ * blocks and items only read them.
+ */
+public final class PropertyTemplates {
+    private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " PropertyTemplates");
+
+    private static final Map<BlockKey, BlockBehaviour.Properties> BLOCKS = new ConcurrentHashMap<>();
+    private static final Map<FoodKey, FoodProperties> FOODS = new ConcurrentHashMap<>();
+    private static final LongAdder BLOCK_REQUESTS = new LongAdder();
+    private static final LongAdder FOOD_REQUESTS = new LongAdder();
+
+    private PropertyTemplates() {
+    }
+
+    /**
+     * The inputs of a block properties template.
+     * @param material Lower-case material, already resolved to a known one
+     */
+    public record BlockKey(String material, float hardness, float resistance, boolean requiresTool) {
+        /**
+         * Builds the key of a definition with the given (already resolved) material.
+         */
+        public static BlockKey of(String material, BlockProperties properties) {
+            return new BlockKey(material, properties.hardness(), properties.resistance(), properties.requires_tool());
+        }
+    }
+
+    /**
+     * The inputs of a food properties template. Effects keep their declaration order.
+     */
+    public record FoodKey(int nutrition, float saturation, boolean meat, boolean alwaysEat, List<EffectKey> effects) {
+        /**
+         * Builds the key of a food definition.
+         */
+        public static FoodKey of(ItemProperties.FoodProperties food) {
+            List<EffectKey> effects = new ArrayList<>();
+            if (food.effects() != null) {
+                for (ItemProperties.EffectProperty effect : food.effects()) {
+                    effects.add(new EffectKey(effect.effect_id() != null ? effect.effect_id().toLowerCase(Locale.ROOT) : null,
+                            effect.duration(), effect.amplifier(), effect.probability()));
+                }
+            }
+            return new FoodKey(food.nutrition(), food.saturation_modifier(), food.is_meat(), food.can_always_eat(),
+                    Collections.unmodifiableList(effects));
+        }
+    }
+
+    /**
+     * One food effect of a {@link FoodKey}.
+     * @param effectId Lower-case effect id
+     */
+    public record EffectKey(String effectId, int duration, int amplifier, float probability) {}
+
+    /**
+     * Template counters for one kind of properties.
+     * @param requests Number of definitions that asked for a template
+     * @param templates Number of distinct templates built
+     */
+    public record Stats(String kind, long requests, int templates) {
+        /**
+         * Share of requests served by an existing template (0 when nothing was requested).
+         */
+        public double dedupRatio() {
+            return requests > 0 ? 1.0 - (double) templates / requests : 0.0;
+        }
+    }
+
+    /**
+     * Returns the shared block properties for the key, building them on first use.
+     */
+    public static BlockBehaviour.Properties block(BlockKey key, Function<BlockKey, BlockBehaviour.Properties> factory) {
+        BLOCK_REQUESTS.increment();
+        return BLOCKS.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Returns the shared food properties for the key, building them on first use.
+     */
+    public static FoodProperties food(FoodKey key, Function<FoodKey, FoodProperties> factory) {
+        FOOD_REQUESTS.increment();
+        return FOODS.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Returns the counters of block and food templates.
+     */
+    public static List<Stats> getStats() {
+        return List.of(new Stats("block", BLOCK_REQUESTS.sum(), BLOCKS.size()),
+                new Stats("food", FOOD_REQUESTS.sum(), FOODS.size()));
+    }
+
+    /**
+     * Logs how many definitions shared each kind of template.
+     */
+    public static void logStats() {
+        for (Stats stats : getStats()) {
+            LOGGER.info("Property templates ({}): {} definitions, {} templates, {}% deduplicated", stats.kind(),
+                    stats.requests(), stats.templates(), String.format(Locale.ROOT, "%.1f", stats.dedupRatio() * 100.0));
+        }
+    }
+}
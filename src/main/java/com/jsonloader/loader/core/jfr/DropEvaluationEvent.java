@@ -0,0 +1,34 @@
+package com.jsonloader.loader.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do JFR para a avaliação da tabela de drops de um bloco quebrado ou de uma entidade morta.
+ */
+@Name("jsonloader.DropEvaluation")
+@Label("Drop Evaluation")
+@Category({"JSONloader", "Drops"})
+@Description("Evaluation of the JSON drop table of a broken block or a killed entity")
+@StackTrace(false)
+public class DropEvaluationEvent extends Event {
+    public static final String BLOCK = "block";
+    public static final String ENTITY = "entity";
+
+    @Label("Kind")
+    @Description("block or entity")
+    public String kind;
+
+    @Label("Target Id")
+    public String targetId;
+
+    @Label("Entries Evaluated")
+    public int entriesEvaluated;
+
+    @Label("Drops Produced")
+    public int dropsProduced;
+}
@@ -0,0 +1,30 @@
+package com.jsonloader.loader.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do JFR para uma fase do carregamento de um mod JSON (retrato da pasta, mod.json,
+ * cache, blocos, itens, drops, registro ou texturas). Juntos, os eventos de uma pasta
+ * mostram onde foi gasto o tempo de carregamento daquele mod.
+ */
+@Name("jsonloader.ModLoadPhase")
+@Label("Mod Load Phase")
+@Category({"JSONloader", "Loading"})
+@Description("One phase of loading a JSON mod")
+@StackTrace(false)
+public class ModLoadPhaseEvent extends Event {
+    @Label("Mod Folder")
+    public String folder;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Run")
+    @Description("Initial load or reload")
+    public String run;
+}
@@ -0,0 +1,33 @@
+package com.jsonloader.loader.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do JFR para uma busca de recurso no resource pack dinâmico.
+ * Indica se o recurso veio do índice em memória, da cópia em disco ou não foi encontrado.
+ */
+@Name("jsonloader.ResourceLookup")
+@Label("Dynamic Pack Resource Lookup")
+@Category({"JSONloader", "Resources"})
+@Description("Lookup of a resource in the JSONloader dynamic resource pack")
+@StackTrace(false)
+public class ResourceLookupEvent extends Event {
+    public static final String MEMORY = "memory";
+    public static final String DISK = "disk";
+    public static final String MISS = "miss";
+
+    @Label("Namespace")
+    public String namespace;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Source")
+    @Description("memory, disk or miss")
+    public String source;
+}
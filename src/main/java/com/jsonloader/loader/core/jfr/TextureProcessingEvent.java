@@ -0,0 +1,30 @@
+package com.jsonloader.loader.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do JFR para o processamento das texturas de um mod para o resource pack dinâmico.
+ */
+@Name("jsonloader.TextureProcessing")
+@Label("Texture Processing")
+@Category({"JSONloader", "Resources"})
+@Description("Generation of the dynamic resource pack entries of a JSON mod")
+@StackTrace(false)
+public class TextureProcessingEvent extends Event {
+    @Label("Mod Id")
+    public String modId;
+
+    @Label("Resources")
+    @Description("Textures, models and blockstates generated")
+    public int resources;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,478 @@
+package com.jsonloader.loader.core.loader;
+
+import com.jsonloader.loader.JSONloader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Cache binário em disco das definições já lidas de cada mod JSON.
+ * Cada pasta de mod tem um arquivo em 'jsonmods/.cache', identificado por um hash
+ * SHA-256 do conteúdo da pasta e da versão do carregador. Quando nada mudou, o
+ * mod é reconstruído a partir do cache sem passar pelo Gson. O cabeçalho guarda o
+ * tamanho e o CRC32 dos dados, conferidos antes da leitura, e nenhum tamanho lido do
+ * arquivo é usado sem antes ser comparado aos bytes restantes. Qualquer entrada
+ * corrompida ou desatualizada é descartada e o mod é lido novamente do JSON.
+ */
+public final class DefinitionCache {
+    private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " DefinitionCache");
+    private static final String ENABLED_PROPERTY = "jsonloader.definitionCache";
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    private static final String CACHE_FOLDER = ".cache";
+    private static final String CACHE_EXTENSION = ".bin";
+    private static final int MAGIC = 0x4A4C4443; // "JLDC"
+    // Incrementar sempre que o formato binário ou os records de definição mudarem
+    private static final int FORMAT_VERSION = 3;
+    private static final String LOADER_VERSION = loaderVersion();
+
+    private DefinitionCache() {
+    }
+
+    /**
+     * Indica se o cache está habilitado (-Djsonloader.definitionCache=false desativa).
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Calcula a chave de cache de uma pasta de mod: hash de todos os arquivos
+     * (caminho relativo, tamanho e conteúdo) e da versão do carregador.
+     * @return A chave em hexadecimal, ou null se a pasta não puder ser lida
+     */
+    public static String computeKey(Path modFolder) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(LOADER_VERSION.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(modFolder)) {
+                files = stream.filter(Files::isRegularFile)
+                        .sorted(Comparator.comparing(path -> modFolder.relativize(path).toString()))
+                        .collect(Collectors.toList());
+            }
+
+            byte[] buffer = new byte[8192];
+            for (Path file : files) {
+                digest.update(modFolder.relativize(file).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                try (InputStream in = Files.newInputStream(file)) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.warn("[Cache] Não foi possível calcular o hash da pasta {}: {}", modFolder.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lê um mod do cache, se existir uma entrada válida para a chave informada.
+     * @return O mod reconstruído, ou null se não houver entrada válida
+     */
+    public static ParsedMod read(Path modFolder, String key) {
+        Path cacheFile = cacheFile(modFolder);
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        try {
+            // Lido inteiro para que available() seja exatamente o número de bytes restantes
+            DataInputStream header = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(cacheFile)));
+            if (header.readInt() != MAGIC || header.readInt() != FORMAT_VERSION || !key.equals(header.readUTF())) {
+                LOGGER.debug("[Cache] Entrada desatualizada para {}", modFolder.getFileName());
+                return null;
+            }
+
+            // Tamanho e CRC conferidos antes de decodificar qualquer campo
+            int payloadLength = header.readInt();
+            long expectedCrc = header.readLong();
+            if (payloadLength < 0 || payloadLength > header.available()) {
+                throw new IOException("tamanho dos dados inválido: " + payloadLength);
+            }
+            byte[] payload = new byte[payloadLength];
+            header.readFully(payload);
+            if (header.read() != -1) {
+                throw new IOException("bytes extras após os dados");
+            }
+            if (crc(payload) != expectedCrc) {
+                throw new IOException("CRC32 não confere");
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+
+            ModMetadata metadata = readMetadata(in);
+            List<BlockDefinition> blocks = readList(in, DefinitionCache::readBlock);
+            List<ItemDefinition> items = readList(in, DefinitionCache::readItem);
+            DropsDefinition drops = new DropsDefinition(
+                    readList(in, DefinitionCache::readBlockDrop),
+                    readList(in, DefinitionCache::readMobDrop));
+
+            LOGGER.info("[Cache] Mod {} carregado do cache", metadata.mod_id());
+            return new ParsedMod(modFolder, metadata, blocks, items, drops);
+        } catch (Exception e) {
+            LOGGER.warn("[Cache] Entrada corrompida para {}, descartando: {}", modFolder.getFileName(), e.getMessage());
+            deleteQuietly(cacheFile);
+            return null;
+        }
+    }
+
+    /**
+     * Grava um mod lido com sucesso no cache.
+     * A escrita é feita em um arquivo temporário e depois movida, para nunca deixar entradas parciais.
+     */
+    public static void write(ParsedMod parsedMod, String key) {
+        Path cacheFile = cacheFile(parsedMod.source());
+        Path tempFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(buffer);
+            writeMetadata(out, parsedMod.metadata());
+            writeList(out, parsedMod.blocks(), DefinitionCache::writeBlock);
+            writeList(out, parsedMod.items(), DefinitionCache::writeItem);
+            writeList(out, parsedMod.drops() != null ? parsedMod.drops().block_drops() : null, DefinitionCache::writeBlockDrop);
+            writeList(out, parsedMod.drops() != null ? parsedMod.drops().mob_drops() : null, DefinitionCache::writeMobDrop);
+            out.flush();
+            byte[] payload = buffer.toByteArray();
+
+            Files.createDirectories(cacheFile.getParent());
+            try (DataOutputStream file = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                file.writeInt(MAGIC);
+                file.writeInt(FORMAT_VERSION);
+                file.writeUTF(key);
+                file.writeInt(payload.length);
+                file.writeLong(crc(payload));
+                file.write(payload);
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("[Cache] Entrada gravada para {}", parsedMod.folderName());
+        } catch (IOException e) {
+            LOGGER.warn("[Cache] Falha ao gravar cache de {}: {}", parsedMod.folderName(), e.getMessage());
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * Remove entradas de cache de pastas de mods que não existem mais.
+     * @param modsRoot A pasta 'jsonmods'
+     * @param folderNames Os nomes das pastas de mods existentes
+     */
+    public static void prune(Path modsRoot, Set<String> folderNames) {
+        Path cacheDir = modsRoot.resolve(CACHE_FOLDER);
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+
+        try (Stream<Path> stream = Files.list(cacheDir)) {
+            stream.filter(file -> {
+                String name = file.getFileName().toString();
+                return !name.endsWith(CACHE_EXTENSION)
+                        || !folderNames.contains(name.substring(0, name.length() - CACHE_EXTENSION.length()));
+            }).forEach(DefinitionCache::deleteQuietly);
+        } catch (IOException e) {
+            LOGGER.warn("[Cache] Falha ao limpar entradas antigas: {}", e.getMessage());
+        }
+    }
+
+    private static Path cacheFile(Path modFolder) {
+        return modFolder.toAbsolutePath().getParent().resolve(CACHE_FOLDER)
+                .resolve(modFolder.getFileName().toString() + CACHE_EXTENSION);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("[Cache] Falha ao excluir {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static long crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    private static String loaderVersion() {
+        String version = DefinitionCache.class.getPackage().getImplementationVersion();
+        return (version != null ? version : "dev") + "#" + FORMAT_VERSION;
+    }
+
+    // --- Escrita ---
+
+    @FunctionalInterface
+    private interface FieldWriter<T> {
+        void write(DataOutputStream out, T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface FieldReader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        // writeUTF é limitado a 64 KB, o que não comporta texturas em Base64
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static <T> void writeList(DataOutputStream out, List<T> list, FieldWriter<T> writer) throws IOException {
+        if (list == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(list.size());
+        for (T element : list) {
+            writeNullable(out, element, writer);
+        }
+    }
+
+    private static <T> void writeNullable(DataOutputStream out, T value, FieldWriter<T> writer) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writer.write(out, value);
+        }
+    }
+
+    private static void writeMetadata(DataOutputStream out, ModMetadata metadata) throws IOException {
+        writeString(out, metadata.mod_id());
+        writeString(out, metadata.name());
+        writeString(out, metadata.version());
+        writeString(out, metadata.description());
+        writeString(out, metadata.author());
+        writeString(out, metadata.website());
+        writeList(out, metadata.dependencies(), DefinitionCache::writeString);
+        writeNullable(out, metadata.assets(), (o, assets) -> {
+            writeString(o, assets.blocks_file());
+            writeString(o, assets.items_file());
+            writeString(o, assets.drops_file());
+        });
+        writeList(out, metadata.creative_tabs(), (o, tab) -> {
+            writeString(o, tab.id());
+            writeString(o, tab.title());
+            writeString(o, tab.icon_item());
+            writeString(o, tab.background_texture());
+            writeList(o, tab.search_tags(), DefinitionCache::writeString);
+            o.writeBoolean(tab.show_search_bar());
+            writeString(o, tab.position_before());
+            writeString(o, tab.position_after());
+        });
+    }
+
+    private static void writeTexture(DataOutputStream out, TextureDefinition texture) throws IOException {
+        writeNullable(out, texture, (o, t) -> {
+            writeString(o, t.type());
+            writeString(o, t.value());
+        });
+    }
+
+    private static void writeBlock(DataOutputStream out, BlockDefinition block) throws IOException {
+        writeString(out, block.id());
+        writeString(out, block.name());
+        writeString(out, block.material());
+        writeNullable(out, block.properties(), (o, p) -> {
+            o.writeFloat(p.hardness());
+            o.writeFloat(p.resistance());
+            o.writeBoolean(p.requires_tool());
+        });
+        writeTexture(out, block.texture());
+    }
+
+    private static void writeItem(DataOutputStream out, ItemDefinition item) throws IOException {
+        writeString(out, item.id());
+        writeString(out, item.name());
+        writeString(out, item.type());
+        writeNullable(out, item.properties(), (o, p) -> {
+            o.writeInt(p.max_stack_size());
+            o.writeInt(p.durability());
+            writeNullable(o, p.food_properties(), (o2, food) -> {
+                o2.writeInt(food.nutrition());
+                o2.writeFloat(food.saturation_modifier());
+                o2.writeBoolean(food.is_meat());
+                o2.writeBoolean(food.can_always_eat());
+                writeList(o2, food.effects() != null ? List.of(food.effects()) : null, (o3, effect) -> {
+                    writeString(o3, effect.effect_id());
+                    o3.writeInt(effect.duration());
+                    o3.writeInt(effect.amplifier());
+                    o3.writeFloat(effect.probability());
+                });
+            });
+            writeNullable(o, p.tool_properties(), (o2, tool) -> {
+                writeString(o2, tool.tier());
+                o2.writeFloat(tool.attack_damage_modifier());
+                o2.writeFloat(tool.attack_speed_modifier());
+                o2.writeFloat(tool.efficiency());
+            });
+        });
+        writeTexture(out, item.texture());
+    }
+
+    private static void writeDropEntry(DataOutputStream out, DropEntry entry) throws IOException {
+        writeString(out, entry.item_id());
+        out.writeInt(entry.count_min());
+        out.writeInt(entry.count_max());
+        out.writeFloat(entry.chance());
+        writeNullable(out, entry.conditions(), (o, c) -> {
+            o.writeBoolean(c.requires_silk_touch());
+            o.writeBoolean(c.requires_tool());
+            writeString(o, c.min_tool_tier());
+            o.writeFloat(c.fortune_multiplier());
+            o.writeBoolean(c.requires_player_kill());
+            o.writeBoolean(c.requires_fire_aspect());
+            o.writeFloat(c.looting_multiplier());
+        });
+    }
+
+    private static void writeBlockDrop(DataOutputStream out, BlockDrop drop) throws IOException {
+        writeString(out, drop.block_id());
+        writeList(out, drop.drops(), DefinitionCache::writeDropEntry);
+    }
+
+    private static void writeMobDrop(DataOutputStream out, MobDrop drop) throws IOException {
+        writeString(out, drop.mob_id());
+        writeList(out, drop.drops(), DefinitionCache::writeDropEntry);
+    }
+
+    // --- Leitura ---
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == -1) {
+            return null;
+        }
+        checkLength(in, length, 1);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static <T> List<T> readList(DataInputStream in, FieldReader<T> reader) throws IOException {
+        int size = in.readInt();
+        if (size == -1) {
+            return null;
+        }
+        // Cada elemento ocupa ao menos o byte que indica se é nulo
+        checkLength(in, size, 1);
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readNullable(in, reader));
+        }
+        return list;
+    }
+
+    // Rejeita tamanhos negativos ou maiores que os bytes restantes antes de alocar qualquer coisa
+    private static void checkLength(DataInputStream in, int count, int minBytesEach) throws IOException {
+        if (count < 0 || (long) count * minBytesEach > in.available()) {
+            throw new IOException("tamanho inválido: " + count);
+        }
+    }
+
+    private static <T> T readNullable(DataInputStream in, FieldReader<T> reader) throws IOException {
+        return in.readBoolean() ? reader.read(in) : null;
+    }
+
+    private static ModMetadata readMetadata(DataInputStream in) throws IOException {
+        return new ModMetadata(
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readList(in, DefinitionCache::readString),
+                readNullable(in, i -> new ModMetadata.AssetsConfig(readString(i), readString(i), readString(i))),
+                readList(in, i -> new CreativeTabDefinition(
+                        readString(i),
+                        readString(i),
+                        readString(i),
+                        readString(i),
+                        readList(i, DefinitionCache::readString),
+                        i.readBoolean(),
+                        readString(i),
+                        readString(i))));
+    }
+
+    private static TextureDefinition readTexture(DataInputStream in) throws IOException {
+        return readNullable(in, i -> new TextureDefinition(readString(i), readString(i)));
+    }
+
+    private static BlockDefinition readBlock(DataInputStream in) throws IOException {
+        return new BlockDefinition(
+                readString(in),
+                readString(in),
+                readString(in),
+                readNullable(in, i -> new BlockProperties(i.readFloat(), i.readFloat(), i.readBoolean())),
+                readTexture(in));
+    }
+
+    private static ItemDefinition readItem(DataInputStream in) throws IOException {
+        return new ItemDefinition(
+                readString(in),
+                readString(in),
+                readString(in),
+                readNullable(in, i -> new ItemProperties(
+                        i.readInt(),
+                        i.readInt(),
+                        readNullable(i, i2 -> {
+                            int nutrition = i2.readInt();
+                            float saturation = i2.readFloat();
+                            boolean meat = i2.readBoolean();
+                            boolean alwaysEat = i2.readBoolean();
+                            List<ItemProperties.EffectProperty> effects = readList(i2, i3 -> new ItemProperties.EffectProperty(
+                                    readString(i3), i3.readInt(), i3.readInt(), i3.readFloat()));
+                            return new ItemProperties.FoodProperties(nutrition, saturation, meat, alwaysEat,
+                                    effects != null ? effects.toArray(new ItemProperties.EffectProperty[0]) : null);
+                        }),
+                        readNullable(i, i2 -> new ItemProperties.ToolProperties(
+                                readString(i2), i2.readFloat(), i2.readFloat(), i2.readFloat())))),
+                readTexture(in));
+    }
+
+    private static DropEntry readDropEntry(DataInputStream in) throws IOException {
+        return new DropEntry(
+                readString(in),
+                in.readInt(),
+                in.readInt(),
+                in.readFloat(),
+                readNullable(in, i -> new DropCondition(
+                        i.readBoolean(),
+                        i.readBoolean(),
+                        readString(i),
+                        i.readFloat(),
+                        i.readBoolean(),
+                        i.readBoolean(),
+                        i.readFloat())));
+    }
+
+    private static BlockDrop readBlockDrop(DataInputStream in) throws IOException {
+        return new BlockDrop(readString(in), readList(in, DefinitionCache::readDropEntry));
+    }
+
+    private static MobDrop readMobDrop(DataInputStream in) throws IOException {
+        return new MobDrop(readString(in), readList(in, DefinitionCache::readDropEntry));
+    }
+}
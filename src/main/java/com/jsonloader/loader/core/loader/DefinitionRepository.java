@@ -0,0 +1,130 @@
+package com.jsonloader.loader.core.loader;
+
+import com.jsonloader.loader.JSONloader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Shared, memoized access to the definitions bundled in the mod's resources
+ * (assets/jsonloader/blocks.json, items.json and drops.json).
+ * Each source is parsed exactly once, on first access, and every caller (registration,
+ * textures, drops) receives the same immutable snapshot. Hit/miss counters make it easy
+ * to confirm that no source is parsed more than once.
+ */
+public final class DefinitionRepository {
+    private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " DefinitionRepository");
+
+    private static final Memo<List<BlockDefinition>> BLOCKS =
+            new Memo<>("blocks.json", () -> immutableList(JsonBlockLoader.loadBlockDefinitions()));
+    private static final Memo<List<ItemDefinition>> ITEMS =
+            new Memo<>("items.json", () -> immutableList(JsonItemLoader.loadItemDefinitions()));
+    private static final Memo<DropsDefinition> DROPS =
+            new Memo<>("drops.json", () -> immutableCopy(JsonDropsLoader.loadDropsDefinitions()));
+
+    private DefinitionRepository() {
+    }
+
+    /**
+     * Access counters for a single bundled source.
+     * @param misses Number of times the source was actually parsed (expected to be at most 1)
+     */
+    public record SourceStats(String source, long hits, long misses) {}
+
+    /**
+     * Returns the bundled block definitions, parsing blocks.json on first access.
+     */
+    public static List<BlockDefinition> blocks() {
+        return BLOCKS.get();
+    }
+
+    /**
+     * Returns the bundled item definitions, parsing items.json on first access.
+     */
+    public static List<ItemDefinition> items() {
+        return ITEMS.get();
+    }
+
+    /**
+     * Returns the bundled drops definition, parsing drops.json on first access.
+     */
+    public static DropsDefinition drops() {
+        return DROPS.get();
+    }
+
+    /**
+     * Returns the hit/miss counters of every bundled source.
+     */
+    public static List<SourceStats> getStats() {
+        return List.of(BLOCKS.stats(), ITEMS.stats(), DROPS.stats());
+    }
+
+    /**
+     * Logs the hit/miss counters of every bundled source.
+     */
+    public static void logStats() {
+        for (SourceStats stats : getStats()) {
+            LOGGER.info("Definition repository {}: {} hits, {} misses", stats.source(), stats.hits(), stats.misses());
+        }
+    }
+
+    private static DropsDefinition immutableCopy(DropsDefinition drops) {
+        List<BlockDrop> blockDrops = drops.block_drops() == null ? Collections.emptyList()
+                : drops.block_drops().stream()
+                    .map(drop -> new BlockDrop(drop.block_id(), immutableList(drop.drops())))
+                    .toList();
+        List<MobDrop> mobDrops = drops.mob_drops() == null ? Collections.emptyList()
+                : drops.mob_drops().stream()
+                    .map(drop -> new MobDrop(drop.mob_id(), immutableList(drop.drops())))
+                    .toList();
+        return new DropsDefinition(blockDrops, mobDrops);
+    }
+
+    private static <T> List<T> immutableList(List<T> list) {
+        return list == null ? null : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Lazily computed value with access counters. The value is computed at most once,
+     * even when several threads ask for it at the same time.
+     */
+    private static final class Memo<T> {
+        private final String source;
+        private final Supplier<T> loader;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private volatile T value;
+
+        private Memo(String source, Supplier<T> loader) {
+            this.source = source;
+            this.loader = loader;
+        }
+
+        private T get() {
+            T result = value;
+            if (result != null) {
+                hits.incrementAndGet();
+                return result;
+            }
+
+            synchronized (this) {
+                if (value == null) {
+                    misses.incrementAndGet();
+                    value = loader.get();
+                    LOGGER.debug("Parsed bundled {} into the definition repository", source);
+                } else {
+                    hits.incrementAndGet();
+                }
+                return value;
+            }
+        }
+
+        private SourceStats stats() {
+            return new SourceStats(source, hits.get(), misses.get());
+        }
+    }
+}
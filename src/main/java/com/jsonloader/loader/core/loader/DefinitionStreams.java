@@ -0,0 +1,133 @@
+package com.jsonloader.loader.core.loader;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Leitura incremental dos arquivos blocks.json, items.json e drops.json.
+ * Cada definição é lida e entregue ao consumidor individualmente, sem montar
+ * a árvore JSON completa em memória. O consumo de memória fica limitado a um
+ * elemento por vez, mais o que o consumidor decidir manter.
+ * Um arquivo vazio (ou só com espaços) é tratado como {@code null}: nenhuma definição.
+ */
+public final class DefinitionStreams {
+    private static final TypeAdapter<BlockDefinition> BLOCK_ADAPTER = DefinitionTypeAdapters.BLOCK;
+    private static final TypeAdapter<ItemDefinition> ITEM_ADAPTER = DefinitionTypeAdapters.ITEM;
+    private static final TypeAdapter<BlockDrop> BLOCK_DROP_ADAPTER = DefinitionTypeAdapters.BLOCK_DROP;
+    private static final TypeAdapter<MobDrop> MOB_DROP_ADAPTER = DefinitionTypeAdapters.MOB_DROP;
+
+    private DefinitionStreams() {
+    }
+
+    /**
+     * Lê um array de definições de blocos.
+     * @return Número de definições entregues ao consumidor
+     */
+    public static int readBlocks(Reader reader, Consumer<BlockDefinition> consumer) throws IOException {
+        JsonReader jsonReader = newReader(reader);
+        if (isEmptyDocument(jsonReader)) {
+            return 0;
+        }
+        int count = readArray(jsonReader, BLOCK_ADAPTER, consumer);
+        assertFullyConsumed(jsonReader);
+        return count;
+    }
+
+    /**
+     * Lê um array de definições de itens.
+     * @return Número de definições entregues ao consumidor
+     */
+    public static int readItems(Reader reader, Consumer<ItemDefinition> consumer) throws IOException {
+        JsonReader jsonReader = newReader(reader);
+        if (isEmptyDocument(jsonReader)) {
+            return 0;
+        }
+        int count = readArray(jsonReader, ITEM_ADAPTER, consumer);
+        assertFullyConsumed(jsonReader);
+        return count;
+    }
+
+    /**
+     * Lê o objeto de drops, entregando cada drop de bloco e de mob assim que é lido.
+     * Campos desconhecidos são ignorados.
+     * @return Número total de drops de blocos e de mobs lidos
+     */
+    public static int readDrops(Reader reader, Consumer<BlockDrop> blockDrops, Consumer<MobDrop> mobDrops) throws IOException {
+        JsonReader jsonReader = newReader(reader);
+        int count = 0;
+
+        if (isEmptyDocument(jsonReader)) {
+            return 0;
+        }
+        if (jsonReader.peek() == JsonToken.NULL) {
+            jsonReader.nextNull();
+        } else {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                switch (jsonReader.nextName()) {
+                    case "block_drops":
+                        count += readArray(jsonReader, BLOCK_DROP_ADAPTER, blockDrops);
+                        break;
+                    case "mob_drops":
+                        count += readArray(jsonReader, MOB_DROP_ADAPTER, mobDrops);
+                        break;
+                    default:
+                        jsonReader.skipValue();
+                        break;
+                }
+            }
+            jsonReader.endObject();
+        }
+
+        assertFullyConsumed(jsonReader);
+        return count;
+    }
+
+    private static JsonReader newReader(Reader reader) {
+        JsonReader jsonReader = new JsonReader(reader);
+        // Mesmo comportamento de Gson.fromJson(Reader, ...)
+        jsonReader.setLenient(true);
+        return jsonReader;
+    }
+
+    // Gson.fromJson devolvia null para um documento vazio; o primeiro peek() lança EOFException
+    private static boolean isEmptyDocument(JsonReader jsonReader) throws IOException {
+        try {
+            return jsonReader.peek() == JsonToken.END_DOCUMENT;
+        } catch (EOFException e) {
+            return true;
+        }
+    }
+
+    private static <T> int readArray(JsonReader jsonReader, TypeAdapter<T> adapter, Consumer<T> consumer) throws IOException {
+        if (jsonReader.peek() == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return 0;
+        }
+
+        int count = 0;
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            T element = adapter.read(jsonReader);
+            if (element != null) {
+                consumer.accept(element);
+                count++;
+            }
+        }
+        jsonReader.endArray();
+        return count;
+    }
+
+    private static void assertFullyConsumed(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+            throw new JsonSyntaxException("JSON document was not fully consumed.");
+        }
+    }
+}
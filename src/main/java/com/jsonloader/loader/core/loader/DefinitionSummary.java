@@ -0,0 +1,53 @@
+package com.jsonloader.loader.core.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resumo de uma definição de bloco ou item mantido pelo {@link LoadedMod} depois do registro.
+ * Guarda apenas o ID e os tipos, sem o conteúdo das texturas, que já foi processado para o
+ * resource pack dinâmico.
+ * @param id O ID do bloco ou item
+ * @param type O material do bloco ou o tipo do item
+ * @param textureType O tipo da textura (base64, url ou local), ou null se não houver textura
+ */
+public record DefinitionSummary(String id, String type, String textureType) {
+
+    /**
+     * Resume as definições de blocos.
+     */
+    public static List<DefinitionSummary> ofBlocks(List<BlockDefinition> blocks) {
+        if (blocks == null || blocks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<DefinitionSummary> summaries = new ArrayList<>(blocks.size());
+        for (BlockDefinition block : blocks) {
+            summaries.add(new DefinitionSummary(block.id(), intern(block.material()), textureType(block.texture())));
+        }
+        return Collections.unmodifiableList(summaries);
+    }
+
+    /**
+     * Resume as definições de itens.
+     */
+    public static List<DefinitionSummary> ofItems(List<ItemDefinition> items) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<DefinitionSummary> summaries = new ArrayList<>(items.size());
+        for (ItemDefinition item : items) {
+            summaries.add(new DefinitionSummary(item.id(), intern(item.type()), textureType(item.texture())));
+        }
+        return Collections.unmodifiableList(summaries);
+    }
+
+    private static String textureType(TextureDefinition texture) {
+        return texture != null ? intern(texture.type()) : null;
+    }
+
+    // Materiais e tipos se repetem em quase todas as definições
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+}
@@ -0,0 +1,664 @@
+package com.jsonloader.loader.core.loader;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TypeAdapters escritos à mão para os records de definição, sem reflexão.
+ * Cada adapter lê os campos direto para variáveis locais e chama o construtor
+ * canônico do record. Campos ausentes ou nulos recebem os valores padrão documentados
+ * (os mesmos dos construtores sem argumentos, como em {@link DropCondition#DropCondition()}),
+ * e campos desconhecidos são descartados com skipValue, sem criar objetos.
+ * Todo o código do carregador usa a instância compartilhada {@link #GSON}.
+ */
+public final class DefinitionTypeAdapters {
+    // Valores padrão documentados que não têm construtor sem argumentos
+    private static final float DEFAULT_HARDNESS = 1.0f;
+    private static final float DEFAULT_RESISTANCE = 1.0f;
+    private static final boolean DEFAULT_SHOW_SEARCH_BAR = true;
+
+    private static final ItemProperties DEFAULT_ITEM = new ItemProperties();
+    private static final ItemProperties.FoodProperties DEFAULT_FOOD = new ItemProperties.FoodProperties();
+    private static final ItemProperties.EffectProperty DEFAULT_EFFECT = new ItemProperties.EffectProperty();
+    private static final ItemProperties.ToolProperties DEFAULT_TOOL = new ItemProperties.ToolProperties();
+    private static final DropEntry DEFAULT_DROP = new DropEntry();
+    private static final DropCondition DEFAULT_CONDITION = new DropCondition();
+
+    public static final TypeAdapter<TextureDefinition> TEXTURE = new DefinitionAdapter<>() {
+        @Override
+        protected TextureDefinition readFields(JsonReader in) throws IOException {
+            String type = null;
+            String value = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "type": type = readString(in); break;
+                    case "value": value = readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new TextureDefinition(type, value);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, TextureDefinition value) throws IOException {
+            out.name("type").value(value.type());
+            out.name("value").value(value.value());
+        }
+    };
+
+    public static final TypeAdapter<BlockProperties> BLOCK_PROPERTIES = new DefinitionAdapter<>() {
+        @Override
+        protected BlockProperties readFields(JsonReader in) throws IOException {
+            float hardness = DEFAULT_HARDNESS;
+            float resistance = DEFAULT_RESISTANCE;
+            boolean requiresTool = false;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "hardness": hardness = readFloat(in, hardness); break;
+                    case "resistance": resistance = readFloat(in, resistance); break;
+                    case "requires_tool": requiresTool = readBoolean(in, requiresTool); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new BlockProperties(hardness, resistance, requiresTool);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, BlockProperties value) throws IOException {
+            out.name("hardness").value(value.hardness());
+            out.name("resistance").value(value.resistance());
+            out.name("requires_tool").value(value.requires_tool());
+        }
+    };
+
+    public static final TypeAdapter<BlockDefinition> BLOCK = new DefinitionAdapter<>() {
+        @Override
+        protected BlockDefinition readFields(JsonReader in) throws IOException {
+            String id = null;
+            String name = null;
+            String material = null;
+            BlockProperties properties = null;
+            TextureDefinition texture = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": id = readString(in); break;
+                    case "name": name = readString(in); break;
+                    case "material": material = readString(in); break;
+                    case "properties": properties = BLOCK_PROPERTIES.read(in); break;
+                    case "texture": texture = TEXTURE.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new BlockDefinition(id, name, material, properties, texture);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, BlockDefinition value) throws IOException {
+            out.name("id").value(value.id());
+            out.name("name").value(value.name());
+            out.name("material").value(value.material());
+            writeObject(out, "properties", BLOCK_PROPERTIES, value.properties());
+            writeObject(out, "texture", TEXTURE, value.texture());
+        }
+    };
+
+    public static final TypeAdapter<ItemProperties.EffectProperty> EFFECT = new DefinitionAdapter<>() {
+        @Override
+        protected ItemProperties.EffectProperty readFields(JsonReader in) throws IOException {
+            String effectId = DEFAULT_EFFECT.effect_id();
+            int duration = DEFAULT_EFFECT.duration();
+            int amplifier = DEFAULT_EFFECT.amplifier();
+            float probability = DEFAULT_EFFECT.probability();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "effect_id": effectId = readString(in, effectId); break;
+                    case "duration": duration = readInt(in, duration); break;
+                    case "amplifier": amplifier = readInt(in, amplifier); break;
+                    case "probability": probability = readFloat(in, probability); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new ItemProperties.EffectProperty(effectId, duration, amplifier, probability);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, ItemProperties.EffectProperty value) throws IOException {
+            out.name("effect_id").value(value.effect_id());
+            out.name("duration").value(value.duration());
+            out.name("amplifier").value(value.amplifier());
+            out.name("probability").value(value.probability());
+        }
+    };
+
+    public static final TypeAdapter<ItemProperties.FoodProperties> FOOD = new DefinitionAdapter<>() {
+        @Override
+        protected ItemProperties.FoodProperties readFields(JsonReader in) throws IOException {
+            int nutrition = DEFAULT_FOOD.nutrition();
+            float saturation = DEFAULT_FOOD.saturation_modifier();
+            boolean meat = DEFAULT_FOOD.is_meat();
+            boolean alwaysEat = DEFAULT_FOOD.can_always_eat();
+            ItemProperties.EffectProperty[] effects = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "nutrition": nutrition = readInt(in, nutrition); break;
+                    case "saturation_modifier": saturation = readFloat(in, saturation); break;
+                    case "is_meat": meat = readBoolean(in, meat); break;
+                    case "can_always_eat": alwaysEat = readBoolean(in, alwaysEat); break;
+                    case "effects": {
+                        List<ItemProperties.EffectProperty> list = readList(in, EFFECT);
+                        effects = list != null ? list.toArray(new ItemProperties.EffectProperty[0]) : null;
+                        break;
+                    }
+                    default: in.skipValue(); break;
+                }
+            }
+            return new ItemProperties.FoodProperties(nutrition, saturation, meat, alwaysEat,
+                    effects != null ? effects : new ItemProperties.EffectProperty[0]);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, ItemProperties.FoodProperties value) throws IOException {
+            out.name("nutrition").value(value.nutrition());
+            out.name("saturation_modifier").value(value.saturation_modifier());
+            out.name("is_meat").value(value.is_meat());
+            out.name("can_always_eat").value(value.can_always_eat());
+            if (value.effects() != null) {
+                writeList(out, "effects", EFFECT, List.of(value.effects()));
+            }
+        }
+    };
+
+    public static final TypeAdapter<ItemProperties.ToolProperties> TOOL = new DefinitionAdapter<>() {
+        @Override
+        protected ItemProperties.ToolProperties readFields(JsonReader in) throws IOException {
+            String tier = DEFAULT_TOOL.tier();
+            float attackDamage = DEFAULT_TOOL.attack_damage_modifier();
+            float attackSpeed = DEFAULT_TOOL.attack_speed_modifier();
+            float efficiency = DEFAULT_TOOL.efficiency();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "tier": tier = readString(in, tier); break;
+                    case "attack_damage_modifier": attackDamage = readFloat(in, attackDamage); break;
+                    case "attack_speed_modifier": attackSpeed = readFloat(in, attackSpeed); break;
+                    case "efficiency": efficiency = readFloat(in, efficiency); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new ItemProperties.ToolProperties(tier, attackDamage, attackSpeed, efficiency);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, ItemProperties.ToolProperties value) throws IOException {
+            out.name("tier").value(value.tier());
+            out.name("attack_damage_modifier").value(value.attack_damage_modifier());
+            out.name("attack_speed_modifier").value(value.attack_speed_modifier());
+            out.name("efficiency").value(value.efficiency());
+        }
+    };
+
+    public static final TypeAdapter<ItemProperties> ITEM_PROPERTIES = new DefinitionAdapter<>() {
+        @Override
+        protected ItemProperties readFields(JsonReader in) throws IOException {
+            int maxStackSize = DEFAULT_ITEM.max_stack_size();
+            int durability = DEFAULT_ITEM.durability();
+            ItemProperties.FoodProperties food = null;
+            ItemProperties.ToolProperties tool = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "max_stack_size": maxStackSize = readInt(in, maxStackSize); break;
+                    case "durability": durability = readInt(in, durability); break;
+                    case "food_properties": food = FOOD.read(in); break;
+                    case "tool_properties": tool = TOOL.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new ItemProperties(maxStackSize, durability, food, tool);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, ItemProperties value) throws IOException {
+            out.name("max_stack_size").value(value.max_stack_size());
+            out.name("durability").value(value.durability());
+            writeObject(out, "food_properties", FOOD, value.food_properties());
+            writeObject(out, "tool_properties", TOOL, value.tool_properties());
+        }
+    };
+
+    public static final TypeAdapter<ItemDefinition> ITEM = new DefinitionAdapter<>() {
+        @Override
+        protected ItemDefinition readFields(JsonReader in) throws IOException {
+            String id = null;
+            String name = null;
+            String type = null;
+            ItemProperties properties = null;
+            TextureDefinition texture = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": id = readString(in); break;
+                    case "name": name = readString(in); break;
+                    case "type": type = readString(in); break;
+                    case "properties": properties = ITEM_PROPERTIES.read(in); break;
+                    case "texture": texture = TEXTURE.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new ItemDefinition(id, name, type, properties, texture);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, ItemDefinition value) throws IOException {
+            out.name("id").value(value.id());
+            out.name("name").value(value.name());
+            out.name("type").value(value.type());
+            writeObject(out, "properties", ITEM_PROPERTIES, value.properties());
+            writeObject(out, "texture", TEXTURE, value.texture());
+        }
+    };
+
+    public static final TypeAdapter<DropCondition> DROP_CONDITION = new DefinitionAdapter<>() {
+        @Override
+        protected DropCondition readFields(JsonReader in) throws IOException {
+            boolean silkTouch = DEFAULT_CONDITION.requires_silk_touch();
+            boolean requiresTool = DEFAULT_CONDITION.requires_tool();
+            String minToolTier = DEFAULT_CONDITION.min_tool_tier();
+            float fortune = DEFAULT_CONDITION.fortune_multiplier();
+            boolean playerKill = DEFAULT_CONDITION.requires_player_kill();
+            boolean fireAspect = DEFAULT_CONDITION.requires_fire_aspect();
+            float looting = DEFAULT_CONDITION.looting_multiplier();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "requires_silk_touch": silkTouch = readBoolean(in, silkTouch); break;
+                    case "requires_tool": requiresTool = readBoolean(in, requiresTool); break;
+                    case "min_tool_tier": minToolTier = readString(in, minToolTier); break;
+                    case "fortune_multiplier": fortune = readFloat(in, fortune); break;
+                    case "requires_player_kill": playerKill = readBoolean(in, playerKill); break;
+                    case "requires_fire_aspect": fireAspect = readBoolean(in, fireAspect); break;
+                    case "looting_multiplier": looting = readFloat(in, looting); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new DropCondition(silkTouch, requiresTool, minToolTier, fortune, playerKill, fireAspect, looting);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, DropCondition value) throws IOException {
+            out.name("requires_silk_touch").value(value.requires_silk_touch());
+            out.name("requires_tool").value(value.requires_tool());
+            out.name("min_tool_tier").value(value.min_tool_tier());
+            out.name("fortune_multiplier").value(value.fortune_multiplier());
+            out.name("requires_player_kill").value(value.requires_player_kill());
+            out.name("requires_fire_aspect").value(value.requires_fire_aspect());
+            out.name("looting_multiplier").value(value.looting_multiplier());
+        }
+    };
+
+    public static final TypeAdapter<DropEntry> DROP_ENTRY = new DefinitionAdapter<>() {
+        @Override
+        protected DropEntry readFields(JsonReader in) throws IOException {
+            String itemId = DEFAULT_DROP.item_id();
+            int countMin = DEFAULT_DROP.count_min();
+            int countMax = DEFAULT_DROP.count_max();
+            float chance = DEFAULT_DROP.chance();
+            DropCondition conditions = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "item_id": itemId = readString(in, itemId); break;
+                    case "count_min": countMin = readInt(in, countMin); break;
+                    case "count_max": countMax = readInt(in, countMax); break;
+                    case "chance": chance = readFloat(in, chance); break;
+                    case "conditions": conditions = DROP_CONDITION.read(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new DropEntry(itemId, countMin, countMax, chance, conditions != null ? conditions : DEFAULT_CONDITION);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, DropEntry value) throws IOException {
+            out.name("item_id").value(value.item_id());
+            out.name("count_min").value(value.count_min());
+            out.name("count_max").value(value.count_max());
+            out.name("chance").value(value.chance());
+            writeObject(out, "conditions", DROP_CONDITION, value.conditions());
+        }
+    };
+
+    public static final TypeAdapter<BlockDrop> BLOCK_DROP = new DefinitionAdapter<>() {
+        @Override
+        protected BlockDrop readFields(JsonReader in) throws IOException {
+            String blockId = null;
+            List<DropEntry> drops = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "block_id": blockId = readString(in); break;
+                    case "drops": drops = readList(in, DROP_ENTRY); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new BlockDrop(blockId, drops);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, BlockDrop value) throws IOException {
+            out.name("block_id").value(value.block_id());
+            writeList(out, "drops", DROP_ENTRY, value.drops());
+        }
+    };
+
+    public static final TypeAdapter<MobDrop> MOB_DROP = new DefinitionAdapter<>() {
+        @Override
+        protected MobDrop readFields(JsonReader in) throws IOException {
+            String mobId = null;
+            List<DropEntry> drops = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "mob_id": mobId = readString(in); break;
+                    case "drops": drops = readList(in, DROP_ENTRY); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new MobDrop(mobId, drops);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, MobDrop value) throws IOException {
+            out.name("mob_id").value(value.mob_id());
+            writeList(out, "drops", DROP_ENTRY, value.drops());
+        }
+    };
+
+    public static final TypeAdapter<DropsDefinition> DROPS = new DefinitionAdapter<>() {
+        @Override
+        protected DropsDefinition readFields(JsonReader in) throws IOException {
+            List<BlockDrop> blockDrops = null;
+            List<MobDrop> mobDrops = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "block_drops": blockDrops = readList(in, BLOCK_DROP); break;
+                    case "mob_drops": mobDrops = readList(in, MOB_DROP); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new DropsDefinition(blockDrops, mobDrops);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, DropsDefinition value) throws IOException {
+            writeList(out, "block_drops", BLOCK_DROP, value.block_drops());
+            writeList(out, "mob_drops", MOB_DROP, value.mob_drops());
+        }
+    };
+
+    public static final TypeAdapter<CreativeTabDefinition> CREATIVE_TAB = new DefinitionAdapter<>() {
+        @Override
+        protected CreativeTabDefinition readFields(JsonReader in) throws IOException {
+            String id = null;
+            String title = null;
+            String iconItem = null;
+            String backgroundTexture = null;
+            List<String> searchTags = null;
+            boolean showSearchBar = DEFAULT_SHOW_SEARCH_BAR;
+            String positionBefore = null;
+            String positionAfter = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id": id = readString(in); break;
+                    case "title": title = readString(in); break;
+                    case "icon_item": iconItem = readString(in); break;
+                    case "background_texture": backgroundTexture = readString(in); break;
+                    case "search_tags": searchTags = readStringList(in); break;
+                    case "show_search_bar": showSearchBar = readBoolean(in, showSearchBar); break;
+                    case "position_before": positionBefore = readString(in); break;
+                    case "position_after": positionAfter = readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new CreativeTabDefinition(id, title, iconItem, backgroundTexture, searchTags,
+                    showSearchBar, positionBefore, positionAfter);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, CreativeTabDefinition value) throws IOException {
+            out.name("id").value(value.id());
+            out.name("title").value(value.title());
+            out.name("icon_item").value(value.icon_item());
+            out.name("background_texture").value(value.background_texture());
+            writeStringList(out, "search_tags", value.search_tags());
+            out.name("show_search_bar").value(value.show_search_bar());
+            out.name("position_before").value(value.position_before());
+            out.name("position_after").value(value.position_after());
+        }
+    };
+
+    public static final TypeAdapter<ModMetadata.AssetsConfig> ASSETS = new DefinitionAdapter<>() {
+        @Override
+        protected ModMetadata.AssetsConfig readFields(JsonReader in) throws IOException {
+            String blocksFile = null;
+            String itemsFile = null;
+            String dropsFile = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "blocks_file": blocksFile = readString(in); break;
+                    case "items_file": itemsFile = readString(in); break;
+                    case "drops_file": dropsFile = readString(in); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new ModMetadata.AssetsConfig(blocksFile, itemsFile, dropsFile);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, ModMetadata.AssetsConfig value) throws IOException {
+            out.name("blocks_file").value(value.blocks_file());
+            out.name("items_file").value(value.items_file());
+            out.name("drops_file").value(value.drops_file());
+        }
+    };
+
+    public static final TypeAdapter<ModMetadata> MOD_METADATA = new DefinitionAdapter<>() {
+        @Override
+        protected ModMetadata readFields(JsonReader in) throws IOException {
+            String modId = null;
+            String name = null;
+            String version = null;
+            String description = null;
+            String author = null;
+            String website = null;
+            List<String> dependencies = null;
+            ModMetadata.AssetsConfig assets = null;
+            List<CreativeTabDefinition> creativeTabs = null;
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "mod_id": modId = readString(in); break;
+                    case "name": name = readString(in); break;
+                    case "version": version = readString(in); break;
+                    case "description": description = readString(in); break;
+                    case "author": author = readString(in); break;
+                    case "website": website = readString(in); break;
+                    case "dependencies": dependencies = readStringList(in); break;
+                    case "assets": assets = ASSETS.read(in); break;
+                    case "creative_tabs": creativeTabs = readList(in, CREATIVE_TAB); break;
+                    default: in.skipValue(); break;
+                }
+            }
+            return new ModMetadata(modId, name, version, description, author, website,
+                    dependencies, assets, creativeTabs);
+        }
+
+        @Override
+        protected void writeFields(JsonWriter out, ModMetadata value) throws IOException {
+            out.name("mod_id").value(value.mod_id());
+            out.name("name").value(value.name());
+            out.name("version").value(value.version());
+            out.name("description").value(value.description());
+            out.name("author").value(value.author());
+            out.name("website").value(value.website());
+            writeStringList(out, "dependencies", value.dependencies());
+            writeObject(out, "assets", ASSETS, value.assets());
+            writeList(out, "creative_tabs", CREATIVE_TAB, value.creative_tabs());
+        }
+    };
+
+    /**
+     * Instância compartilhada do Gson, com todos os adapters de definição registrados.
+     */
+    public static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(TextureDefinition.class, TEXTURE)
+            .registerTypeAdapter(BlockProperties.class, BLOCK_PROPERTIES)
+            .registerTypeAdapter(BlockDefinition.class, BLOCK)
+            .registerTypeAdapter(ItemProperties.EffectProperty.class, EFFECT)
+            .registerTypeAdapter(ItemProperties.FoodProperties.class, FOOD)
+            .registerTypeAdapter(ItemProperties.ToolProperties.class, TOOL)
+            .registerTypeAdapter(ItemProperties.class, ITEM_PROPERTIES)
+            .registerTypeAdapter(ItemDefinition.class, ITEM)
+            .registerTypeAdapter(DropCondition.class, DROP_CONDITION)
+            .registerTypeAdapter(DropEntry.class, DROP_ENTRY)
+            .registerTypeAdapter(BlockDrop.class, BLOCK_DROP)
+            .registerTypeAdapter(MobDrop.class, MOB_DROP)
+            .registerTypeAdapter(DropsDefinition.class, DROPS)
+            .registerTypeAdapter(CreativeTabDefinition.class, CREATIVE_TAB)
+            .registerTypeAdapter(ModMetadata.AssetsConfig.class, ASSETS)
+            .registerTypeAdapter(ModMetadata.class, MOD_METADATA)
+            .create();
+
+    private DefinitionTypeAdapters() {
+    }
+
+    /**
+     * Base dos adapters: trata null e as chaves do objeto; as subclasses leem e escrevem os campos.
+     */
+    private abstract static class DefinitionAdapter<T> extends TypeAdapter<T> {
+        @Override
+        public final T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            in.beginObject();
+            T value = readFields(in);
+            in.endObject();
+            return value;
+        }
+
+        @Override
+        public final void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeFields(out, value);
+            out.endObject();
+        }
+
+        protected abstract T readFields(JsonReader in) throws IOException;
+
+        protected abstract void writeFields(JsonWriter out, T value) throws IOException;
+    }
+
+    private static String readString(JsonReader in) throws IOException {
+        return readString(in, null);
+    }
+
+    private static String readString(JsonReader in, String defaultValue) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        // Mesmo comportamento do Gson: booleanos e números são aceitos como texto
+        return token == JsonToken.BOOLEAN ? Boolean.toString(in.nextBoolean()) : in.nextString();
+    }
+
+    private static int readInt(JsonReader in, int defaultValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        return in.nextInt();
+    }
+
+    private static float readFloat(JsonReader in, float defaultValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        return (float) in.nextDouble();
+    }
+
+    private static boolean readBoolean(JsonReader in, boolean defaultValue) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        return token == JsonToken.STRING ? Boolean.parseBoolean(in.nextString()) : in.nextBoolean();
+    }
+
+    private static <T> List<T> readList(JsonReader in, TypeAdapter<T> adapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<T> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(adapter.read(in));
+        }
+        in.endArray();
+        return list;
+    }
+
+    private static List<String> readStringList(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<String> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(readString(in));
+        }
+        in.endArray();
+        return list;
+    }
+
+    private static <T> void writeObject(JsonWriter out, String name, TypeAdapter<T> adapter, T value) throws IOException {
+        out.name(name);
+        adapter.write(out, value);
+    }
+
+    private static <T> void writeList(JsonWriter out, String name, TypeAdapter<T> adapter, List<T> values) throws IOException {
+        out.name(name);
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T value : values) {
+            adapter.write(out, value);
+        }
+        out.endArray();
+    }
+
+    private static void writeStringList(JsonWriter out, String name, List<String> values) throws IOException {
+        out.name(name);
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (String value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+}
@@ -1,15 +1,13 @@
 package com.jsonloader.loader.core.loader;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.jsonloader.loader.JSONloader; // Updated import
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -19,7 +17,6 @@ public class JsonBlockLoader {
     // Use the logger from the main mod class or create a dedicated one
     // Corrected: Use MODID from the main class
     private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " JsonBlockLoader");
-    private static final Gson GSON = new Gson();
     // Construct the path relative to the classpath root, typically within the JAR's assets
     // Corrected: Use MODID from the main class
     private static final String BLOCKS_JSON_PATH = "/assets/" + JSONloader.MODID + "/blocks.json";
@@ -59,16 +56,14 @@ public class JsonBlockLoader {
 
     private static List<BlockDefinition> loadFromInputStream(InputStream inputStream) {
          try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            Type listType = new TypeToken<List<BlockDefinition>>() {}.getType();
-            List<BlockDefinition> definitions = GSON.fromJson(reader, listType);
-
-            if (definitions == null) {
-                LOGGER.error("Failed to parse blocks.json. GSON returned null.");
-                return Collections.emptyList();
-            }
+            // Stream the array element by element instead of materializing the whole JSON tree
+            List<BlockDefinition> definitions = new ArrayList<>();
+            DefinitionStreams.readBlocks(reader, def -> {
+                LOGGER.debug("Loaded definition for block ID: {}", def.id());
+                definitions.add(def);
+            });
 
             LOGGER.info("Successfully loaded {} block definitions from JSON.", definitions.size());
-            definitions.forEach(def -> LOGGER.debug("Loaded definition for block ID: {}", def.id()));
             return definitions;
         } catch (Exception e) {
             LOGGER.error("Error occurred during JSON parsing from input stream.", e);
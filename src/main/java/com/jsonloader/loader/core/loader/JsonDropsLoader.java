@@ -1,21 +1,19 @@
 package com.jsonloader.loader.core.loader;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.jsonloader.loader.JSONloader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 public class JsonDropsLoader {
 
     private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " JsonDropsLoader");
-    private static final Gson GSON = new Gson();
     private static final String DROPS_JSON_PATH = "/assets/" + JSONloader.MODID + "/drops.json";
 
     /**
@@ -51,31 +49,23 @@ public class JsonDropsLoader {
 
     private static DropsDefinition loadFromInputStream(InputStream inputStream) {
          try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            Type type = new TypeToken<DropsDefinition>() {}.getType();
-            DropsDefinition definition = GSON.fromJson(reader, type);
-
-            if (definition == null) {
-                LOGGER.error("Failed to parse drops.json. GSON returned null.");
-                return new DropsDefinition(Collections.emptyList(), Collections.emptyList());
-            }
-
-            int blockDropsCount = definition.block_drops() != null ? definition.block_drops().size() : 0;
-            int mobDropsCount = definition.mob_drops() != null ? definition.mob_drops().size() : 0;
+            // Stream each block/mob drop individually instead of materializing the whole JSON tree
+            List<BlockDrop> blockDrops = new ArrayList<>();
+            List<MobDrop> mobDrops = new ArrayList<>();
+            DefinitionStreams.readDrops(reader,
+                blockDrop -> {
+                    LOGGER.debug("Loaded drop definition for block ID: {}", blockDrop.block_id());
+                    blockDrops.add(blockDrop);
+                },
+                mobDrop -> {
+                    LOGGER.debug("Loaded drop definition for mob ID: {}", mobDrop.mob_id());
+                    mobDrops.add(mobDrop);
+                });
             
             LOGGER.info("Successfully loaded drops definitions from JSON: {} block drops and {} mob drops.", 
-                        blockDropsCount, mobDropsCount);
-            
-            if (definition.block_drops() != null) {
-                definition.block_drops().forEach(blockDrop -> 
-                    LOGGER.debug("Loaded drop definition for block ID: {}", blockDrop.block_id()));
-            }
-            
-            if (definition.mob_drops() != null) {
-                definition.mob_drops().forEach(mobDrop -> 
-                    LOGGER.debug("Loaded drop definition for mob ID: {}", mobDrop.mob_id()));
-            }
+                        blockDrops.size(), mobDrops.size());
             
-            return definition;
+            return new DropsDefinition(blockDrops, mobDrops);
         } catch (Exception e) {
             LOGGER.error("Error occurred during JSON parsing from input stream.", e);
             return new DropsDefinition(Collections.emptyList(), Collections.emptyList());
@@ -1,22 +1,19 @@
 package com.jsonloader.loader.core.loader;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.jsonloader.loader.JSONloader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 public class JsonItemLoader {
 
     private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " JsonItemLoader");
-    private static final Gson GSON = new Gson();
     private static final String ITEMS_JSON_PATH = "/assets/" + JSONloader.MODID + "/items.json";
 
     /**
@@ -52,16 +49,14 @@ public class JsonItemLoader {
 
     private static List<ItemDefinition> loadFromInputStream(InputStream inputStream) {
          try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            Type listType = new TypeToken<List<ItemDefinition>>() {}.getType();
-            List<ItemDefinition> definitions = GSON.fromJson(reader, listType);
-
-            if (definitions == null) {
-                LOGGER.error("Failed to parse items.json. GSON returned null.");
-                return Collections.emptyList();
-            }
+            // Stream the array element by element instead of materializing the whole JSON tree
+            List<ItemDefinition> definitions = new ArrayList<>();
+            DefinitionStreams.readItems(reader, def -> {
+                LOGGER.debug("Loaded definition for item ID: {}", def.id());
+                definitions.add(def);
+            });
 
             LOGGER.info("Successfully loaded {} item definitions from JSON.", definitions.size());
-            definitions.forEach(def -> LOGGER.debug("Loaded definition for item ID: {}", def.id()));
             return definitions;
         } catch (Exception e) {
             LOGGER.error("Error occurred during JSON parsing from input stream.", e);
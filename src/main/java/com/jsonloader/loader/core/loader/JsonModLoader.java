@@ -2,8 +2,8 @@ package com.jsonloader.loader.core.loader;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 import com.jsonloader.loader.JSONloader;
+import com.jsonloader.loader.core.metrics.JsonLoaderMetrics;
 import com.jsonloader.loader.core.texture.DynamicResourcePackManager;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -12,46 +12,98 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.*;
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Carregador principal para mods JSON externos.
  * Procura por mods na pasta 'jsonmods' e carrega seus metadados, blocos, itens e drops.
+ * Cada mod pode ser uma subpasta ou um pacote .zip/.jar, lido sem extração.
  */
 public class JsonModLoader {
     private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " JsonModLoader");
-    private static final Gson GSON = new Gson();
+    private static final Gson GSON = DefinitionTypeAdapters.GSON;
     private static final String JSONMODS_FOLDER = "jsonmods";
     private static final String MOD_JSON_FILENAME = "mod.json";
     private static final String DEFAULT_BLOCKS_JSON_FILENAME = "blocks.json";
     private static final String DEFAULT_ITEMS_JSON_FILENAME = "items.json";
     private static final String DEFAULT_DROPS_JSON_FILENAME = "drops.json";
     
-    // Lista de mods carregados para referência e comando de listagem
-    private static final List<LoadedMod> LOADED_MODS = new ArrayList<>();
+    // Número de threads usadas para ler os mods em paralelo (1 = carregamento sequencial)
+    private static final String LOADER_THREADS_PROPERTY = "jsonloader.loaderThreads";
+    private static final int LOADER_THREADS = Math.max(1, Integer.getInteger(LOADER_THREADS_PROPERTY,
+            Math.min(8, Runtime.getRuntime().availableProcessors())));
+    
+    // Geração ativa dos mods carregados (mods, drops e texturas), substituída atomicamente
+    // a cada carregamento ou recarregamento. Lida sem bloqueio pelos comandos, eventos,
+    // resource pack e pela thread do observador de arquivos.
+    private static final AtomicReference<ModGeneration> CURRENT = new AtomicReference<>(ModGeneration.EMPTY);
+    
+    // Geração substituída pelo último recarregamento, mantida para rollback imediato.
+    // Apenas uma é mantida: a anterior a ela é liberada quando uma nova geração é ativada.
+    private static volatile ModGeneration previousGeneration;
+    
+    // Os registros do jogo estão prontos: cada geração nova já é criada com os drops compilados
+    private static volatile boolean dropsCompilable;
     
     /**
-     * Retorna a lista de mods carregados.
+     * Retorna a lista de mods carregados, imutável e consistente mesmo durante um recarregamento.
      */
     public static List<LoadedMod> getLoadedMods() {
-        return Collections.unmodifiableList(LOADED_MODS);
+        return CURRENT.get().mods().mods();
+    }
+    
+    /**
+     * Procura um mod carregado pelo ID, sem diferenciar maiúsculas de minúsculas.
+     * @return O mod, ou null se não estiver carregado
+     */
+    public static LoadedMod getLoadedMod(String modId) {
+        return CURRENT.get().mods().find(modId);
+    }
+    
+    /**
+     * Retorna o retrato atual dos mods carregados, para quem precisa da lista e do índice
+     * do mesmo carregamento.
+     */
+    public static LoadedModsSnapshot getLoadedModsSnapshot() {
+        return CURRENT.get().mods();
     }
     
     /**
-     * Limpa a lista de mods carregados.
+     * Retorna a geração ativa dos mods carregados.
+     */
+    public static ModGeneration getCurrentGeneration() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Limpa a lista de mods carregados. Os drops do drops.json embutido continuam ativos.
      */
     public static void clearLoadedMods() {
-        LOADED_MODS.clear();
+        CURRENT.set(ModGeneration.withoutMods(dropsCompilable));
+        previousGeneration = null;
         LOGGER.info("Lista de mods carregados foi limpa");
     }
 
     /**
      * Carrega todos os mods da pasta 'jsonmods'.
-     * Cada subpasta é considerada um mod separado.
+     * Cada subpasta ou pacote .zip/.jar é considerado um mod separado.
+     * Os mods são carregados em ondas definidas pelas dependências declaradas no mod.json:
+     * dentro de uma onda, os arquivos JSON são lidos em paralelo e o conteúdo é registrado
+     * em sequência, em ordem alfabética das pastas, para que os IDs de registro sejam os
+     * mesmos a cada inicialização. Se um mod falhar, apenas os mods que dependem dele são ignorados.
      */
     public static void loadAllMods() {
         LOGGER.info("=== INICIANDO CARREGAMENTO DE MODS JSON ===");
@@ -60,64 +112,652 @@ public class JsonModLoader {
         // Limpa a lista de mods carregados anteriormente
         clearLoadedMods();
         
-        // Verifica se a pasta jsonmods existe, se não, cria
+        LoadProfiler.begin("carregamento");
+        try {
+            loadModFolders();
+        } finally {
+            LoadProfiler.finish();
+        }
+    }
+    
+    private static void loadModFolders() {
+        Path jsonmodsPath = Paths.get(JSONMODS_FOLDER);
+        List<Path> modFolders = listModFolders(jsonmodsPath);
+        if (modFolders == null) {
+            return;
+        }
+        
+        if (modFolders.isEmpty()) {
+            LOGGER.warn("[Aviso] Nenhum mod encontrado na pasta '{}'. Crie subpastas ou pacotes .zip/.jar com arquivos mod.json para adicionar mods.", JSONMODS_FOLDER);
+        } else {
+            LOGGER.info("[Descoberta] Encontrados {} possíveis mods na pasta '{}'", modFolders.size(), JSONMODS_FOLDER);
+        }
+        
+        // Lê os retratos e os mod.json (em paralelo quando configurado) para montar o grafo de dependências
+        List<ModFolderManifest> manifests = parallelMap(modFolders, modFolder -> scanModFolder(modFolder, null));
+        List<ModMetadata> headers = parallelMap(modFolders, JsonModLoader::readModHeader);
+        Map<String, Path> foldersById = new HashMap<>();
+        Map<Path, String> idsByFolder = new HashMap<>();
+        Map<Path, ModFolderManifest> manifestsByFolder = new HashMap<>();
+        Map<Path, ModMetadata> headersByFolder = new HashMap<>();
+        Map<String, List<String>> dependencies = new HashMap<>();
+        for (int i = 0; i < modFolders.size(); i++) {
+            Path modFolder = modFolders.get(i);
+            ModMetadata header = headers.get(i);
+            if (header == null) {
+                continue;
+            }
+            if (foldersById.containsKey(header.mod_id())) {
+                LOGGER.error("[ERRO] Mod na pasta '{}' ignorado: mod_id '{}' já é usado pela pasta '{}'", 
+                    modFolder.getFileName(), header.mod_id(), foldersById.get(header.mod_id()).getFileName());
+                continue;
+            }
+            foldersById.put(header.mod_id(), modFolder);
+            idsByFolder.put(modFolder, header.mod_id());
+            manifestsByFolder.put(modFolder, manifests.get(i));
+            headersByFolder.put(modFolder, header);
+            dependencies.put(header.mod_id(), header.dependencies());
+        }
+        
+        ModDependencyGraph.LoadPlan plan = ModDependencyGraph.plan(dependencies, Collections.emptySet());
+        plan.skipped().forEach((modId, reason) -> 
+            LOGGER.error("[ERRO] Mod {} não será carregado: {}", modId, reason));
+        LOGGER.info("[Dependências] {} mods organizados em {} ondas de carregamento", 
+            dependencies.size() - plan.skipped().size(), plan.waves().size());
+        
+        // Carrega cada onda: leitura em paralelo, registro em sequência
+        ModGeneration.Builder builder = new ModGeneration.Builder(ModGeneration.EMPTY);
+        int successCount = 0;
+        Set<String> failedIds = new HashSet<>();
+        for (List<String> wave : plan.waves()) {
+            List<Path> waveFolders = new ArrayList<>();
+            for (String modId : wave) {
+                String failedDependency = findFailedDependency(dependencies.get(modId), failedIds);
+                if (failedDependency != null) {
+                    LOGGER.error("[ERRO] Mod {} não será carregado: depende de {}, que falhou ao carregar", 
+                        modId, failedDependency);
+                    failedIds.add(modId);
+                } else {
+                    waveFolders.add(foldersById.get(modId));
+                }
+            }
+            waveFolders.sort(Comparator.comparing(path -> path.getFileName().toString()));
+            
+            // O mod.json já foi lido para o grafo de dependências e não é lido de novo
+            List<ParsedMod> parsedMods = parallelMap(waveFolders, 
+                modFolder -> parseMod(modFolder, manifestsByFolder.get(modFolder), headersByFolder.get(modFolder)));
+            for (int i = 0; i < parsedMods.size(); i++) {
+                Path modFolder = waveFolders.get(i);
+                ParsedMod parsedMod = parsedMods.get(i);
+                ModFolderManifest manifest = manifestsByFolder.get(modFolder);
+                LoadedMod loadedMod = parsedMod != null ? applyParsedMod(parsedMod, true, manifest.contentHash()) : null;
+                if (loadedMod != null) {
+                    builder.put(parsedMod.folderName(), loadedMod, manifest, buildModResources(parsedMod));
+                    successCount++;
+                } else {
+                    failedIds.add(idsByFolder.get(modFolder));
+                }
+            }
+        }
+        commitGeneration(builder.build(dropsCompilable));
+        
+        LOGGER.info("=== CARREGAMENTO DE MODS CONCLUÍDO ===");
+        LOGGER.info("Total de mods encontrados: {}", modFolders.size());
+        LOGGER.info("Mods carregados com sucesso: {}", successCount);
+        LOGGER.info("Mods com falha no carregamento: {}", modFolders.size() - successCount);
+    }
+    
+    /**
+     * Recarrega apenas os mods cujas pastas foram adicionadas, alteradas ou removidas
+     * desde o último carregamento. Os demais mods mantêm as instâncias já carregadas.
+     * Como os registros do Forge já estão congelados neste ponto, blocos, itens e abas
+     * criativas novos não são registrados; metadados, texturas e drops são atualizados.
+     * @return O resumo do que mudou
+     */
+    public static ReloadResult reloadChangedMods() {
+        ReloadResult result;
+        do {
+            result = applyReload(prepareReload(null));
+        } while (result.staleBase());
+        return result;
+    }
+    
+    /**
+     * Compara as pastas de mods com a geração ativa, lê as que mudaram e monta a próxima
+     * geração completa (mods, drops e texturas) sem alterar a ativa.
+     * Se algum mod carregado falhar (leitura, dependências ou ID duplicado), a nova geração
+     * é descartada inteira e a ativa continua valendo. Mods novos que falham apenas ficam de fora.
+     * Pode ser executado em qualquer thread.
+     * @param folderNames As pastas a verificar, ou null para verificar todas
+     * @return A geração preparada, a ser ativada com {@link #applyReload}
+     */
+    public static PreparedReload prepareReload(Set<String> folderNames) {
+        return prepareReload(folderNames, ReloadProgress.NONE);
+    }
+    
+    /**
+     * Igual a {@link #prepareReload(Set)}, informando o andamento da leitura.
+     * @param progress Recebe o número de pastas a ler e cada pasta lida
+     */
+    public static PreparedReload prepareReload(Set<String> folderNames, ReloadProgress progress) {
+        LoadProfiler.begin("recarregamento");
+        try {
+            return prepareGeneration(folderNames, progress);
+        } finally {
+            LoadProfiler.finish();
+        }
+    }
+    
+    private static PreparedReload prepareGeneration(Set<String> folderNames, ReloadProgress progress) {
+        long start = System.nanoTime();
+        ModGeneration base = CURRENT.get();
+        LOGGER.info("=== INICIANDO RECARREGAMENTO INCREMENTAL DE MODS JSON (geração {}) ===", base.number());
+        
+        List<String> added = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        
         Path jsonmodsPath = Paths.get(JSONMODS_FOLDER);
+        List<Path> modFolders = listModFolders(jsonmodsPath);
+        if (modFolders == null) {
+            return new PreparedReload(folderNames, base, null, added, changed, removed, failed, 0, false, start);
+        }
+        if (folderNames != null) {
+            modFolders.removeIf(path -> !folderNames.contains(path.getFileName().toString()));
+        }
+        
+        // Compara o estado atual de cada pasta com o da geração ativa
+        Map<String, ModFolderManifest> baseManifests = base.manifests();
+        List<ModFolderManifest> manifests = parallelMap(modFolders, modFolder -> 
+            scanModFolder(modFolder, baseManifests.get(modFolder.getFileName().toString())));
+        
+        List<Path> dirtyFolders = new ArrayList<>();
+        Map<Path, ModFolderManifest> dirtyManifests = new HashMap<>();
+        for (int i = 0; i < modFolders.size(); i++) {
+            String folderName = modFolders.get(i).getFileName().toString();
+            ModFolderManifest manifest = manifests.get(i);
+            // Pastas que falharam no último carregamento não têm retrato e são sempre lidas de novo
+            if (!manifest.sameContentAs(baseManifests.get(folderName))) {
+                dirtyFolders.add(modFolders.get(i));
+                dirtyManifests.put(modFolders.get(i), manifest);
+            }
+        }
+        int unchanged = modFolders.size() - dirtyFolders.size();
+        
+        // Lê novamente apenas as pastas novas ou alteradas
+        int total = dirtyFolders.size();
+        AtomicInteger parsedCount = new AtomicInteger();
+        progress.onStarted(total);
+        List<ParsedMod> parsedMods = parallelMap(dirtyFolders, modFolder -> {
+            ParsedMod parsedMod = null;
+            try {
+                parsedMod = parseMod(modFolder, dirtyManifests.get(modFolder), null);
+                return parsedMod;
+            } finally {
+                // Também conta as leituras que lançaram exceção, para o total sempre fechar
+                progress.onModParsed(modFolder.getFileName().toString(), parsedMod != null && parsedMod.complete(),
+                    parsedCount.incrementAndGet(), total);
+            }
+        });
+        
+        ModGeneration.Builder builder = new ModGeneration.Builder(base);
+        // Pastas com mod carregado na geração ativa que falharam: qualquer uma invalida a nova geração
+        Set<String> regressions = new TreeSet<>();
+        
+        // Remove os mods cujas pastas não existem mais
+        Set<String> presentFolders = modFolders.stream()
+                .map(path -> path.getFileName().toString())
+                .collect(Collectors.toSet());
+        baseManifests.keySet().stream()
+                .filter(folderName -> folderNames == null || folderNames.contains(folderName))
+                .filter(folderName -> !presentFolders.contains(folderName))
+                .sorted()
+                .forEach(folderName -> {
+                    LoadedMod oldMod = builder.remove(folderName);
+                    if (oldMod != null) {
+                        removed.add(oldMod.modId());
+                        LOGGER.info("[Reload] Mod {} removido (pasta '{}' não existe mais)", oldMod.modId(), folderName);
+                    }
+                });
+        
+        // Separa as leituras que falharam das que podem ser aplicadas. Um arquivo com erro conta
+        // como falha: aplicá-lo deixaria o mod pela metade
+        List<ReloadEntry> pendingEntries = new ArrayList<>();
+        for (int i = 0; i < dirtyFolders.size(); i++) {
+            String folderName = dirtyFolders.get(i).getFileName().toString();
+            ReloadEntry entry = new ReloadEntry(folderName, dirtyManifests.get(dirtyFolders.get(i)), parsedMods.get(i));
+            if (entry.parsedMod() == null || !entry.parsedMod().complete()) {
+                LoadedMod oldMod = builder.get(folderName);
+                failed.add(oldMod != null ? oldMod.modId() : folderName);
+                if (oldMod != null) {
+                    regressions.add(folderName);
+                }
+            } else {
+                pendingEntries.add(entry);
+            }
+        }
+        
+        // Os mods que continuam carregados satisfazem as dependências dos recarregados
+        Set<String> replacedFolders = pendingEntries.stream()
+                .map(ReloadEntry::folderName)
+                .collect(Collectors.toSet());
+        Set<String> available = builder.modsByFolder().entrySet().stream()
+                .filter(entry -> !replacedFolders.contains(entry.getKey()))
+                .map(entry -> entry.getValue().modId())
+                .collect(Collectors.toSet());
+        
+        Map<String, ReloadEntry> entriesById = new HashMap<>();
+        Map<String, List<String>> dependencies = new HashMap<>();
+        for (ReloadEntry entry : pendingEntries) {
+            ModMetadata metadata = entry.parsedMod().metadata();
+            if (available.contains(metadata.mod_id()) || entriesById.containsKey(metadata.mod_id())) {
+                LOGGER.error("[Reload] Mod na pasta '{}' ignorado: mod_id '{}' já está em uso", entry.folderName(), metadata.mod_id());
+                failed.add(metadata.mod_id());
+                recordRegression(builder, entry.folderName(), regressions);
+                continue;
+            }
+            entriesById.put(metadata.mod_id(), entry);
+            dependencies.put(metadata.mod_id(), metadata.dependencies());
+        }
+        
+        ModDependencyGraph.LoadPlan plan = ModDependencyGraph.plan(dependencies, available);
+        plan.skipped().forEach((modId, reason) -> {
+            LOGGER.error("[Reload] Mod {} não será recarregado: {}", modId, reason);
+            failed.add(modId);
+            recordRegression(builder, entriesById.get(modId).folderName(), regressions);
+        });
+        
+        // Aplica as pastas novas ou alteradas em ondas, respeitando as dependências
+        Set<String> failedIds = new HashSet<>();
+        for (List<String> wave : plan.waves()) {
+            for (String modId : wave) {
+                ReloadEntry entry = entriesById.get(modId);
+                String folderName = entry.folderName();
+                
+                String failedDependency = findFailedDependency(dependencies.get(modId), failedIds);
+                LoadedMod loadedMod = null;
+                if (failedDependency != null) {
+                    LOGGER.error("[Reload] Mod {} não será recarregado: depende de {}, que falhou ao carregar", 
+                        modId, failedDependency);
+                } else {
+                    loadedMod = applyParsedMod(entry.parsedMod(), false, entry.manifest().contentHash());
+                }
+                if (loadedMod == null) {
+                    failed.add(modId);
+                    failedIds.add(modId);
+                    recordRegression(builder, folderName, regressions);
+                    continue;
+                }
+                
+                boolean replaced = builder.get(folderName) != null;
+                builder.put(folderName, loadedMod, entry.manifest(), buildModResources(entry.parsedMod()));
+                (replaced ? changed : added).add(loadedMod.modId());
+            }
+        }
+        
+        // Um mod que continua carregado não pode perder uma dependência: pasta removida ou mod_id trocado
+        Set<String> remainingIds = builder.modsByFolder().values().stream()
+                .map(LoadedMod::modId)
+                .collect(Collectors.toSet());
+        Set<String> lostIds = base.modsByFolder().values().stream()
+                .map(LoadedMod::modId)
+                .filter(modId -> !remainingIds.contains(modId))
+                .collect(Collectors.toSet());
+        if (!lostIds.isEmpty()) {
+            builder.modsByFolder().forEach((folderName, mod) -> {
+                String lostDependency = findFailedDependency(mod.dependencies(), lostIds);
+                if (lostDependency != null) {
+                    LOGGER.error("[Reload] Mod {} depende de {}, que não está mais carregado", mod.modId(), lostDependency);
+                    failed.add(mod.modId());
+                    regressions.add(folderName);
+                }
+            });
+        }
+        
+        // Valida a nova geração: nenhum mod carregado pode ser perdido ou ficar pela metade
+        if (!regressions.isEmpty()) {
+            LOGGER.error("[Reload] Recarregamento descartado: mods já carregados falharam nas pastas {}. A geração {} continua ativa",
+                regressions, base.number());
+            return new PreparedReload(folderNames, base, null, List.of(), List.of(), List.of(), failed, unchanged, true, start);
+        }
+        
+        ModGeneration generation = added.isEmpty() && changed.isEmpty() && removed.isEmpty() ? null 
+            : builder.build(dropsCompilable);
+        
+        // Drops que não compilam seriam ignorados em silêncio a cada evento: problemas que a
+        // geração ativa não tinha também invalidam a nova geração
+        List<String> dropProblems = generation != null ? newDropProblems(base, generation) : List.of();
+        if (!dropProblems.isEmpty()) {
+            LOGGER.error("[Reload] Recarregamento descartado: {} drops inválidos. A geração {} continua ativa", 
+                dropProblems.size(), base.number());
+            dropProblems.forEach(problem -> LOGGER.error("[Reload]   {}", problem));
+            return new PreparedReload(folderNames, base, null, List.of(), List.of(), List.of(), failed, unchanged, true, start);
+        }
+        return new PreparedReload(folderNames, base, generation, added, changed, removed, failed, unchanged, false, start);
+    }
+    
+    /**
+     * Retorna os problemas das tabelas de drops compiladas da nova geração que a geração base
+     * não tinha, para não descartar todo recarregamento por um problema já existente.
+     */
+    private static List<String> newDropProblems(ModGeneration base, ModGeneration generation) {
+        if (generation.compiledDrops() == null) {
+            return List.of();
+        }
+        Set<String> known = base.compiledDrops() != null ? new HashSet<>(base.compiledDrops().rejected()) : Set.of();
+        return generation.compiledDrops().rejected().stream()
+                .filter(problem -> !known.contains(problem))
+                .toList();
+    }
+    
+    /**
+     * Compila as tabelas de drops da geração ativa, agora que os registros do jogo estão prontos,
+     * e faz as próximas gerações serem criadas já compiladas. Chamado uma vez no common setup,
+     * na thread principal, antes de qualquer recarregamento.
+     * @return A geração ativa, com os drops compilados
+     */
+    public static ModGeneration compileDrops() {
+        dropsCompilable = true;
+        return CURRENT.updateAndGet(ModGeneration::withCompiledDrops);
+    }
+    
+    /**
+     * Registra uma falha que invalida a nova geração, se a pasta tinha um mod carregado.
+     */
+    private static void recordRegression(ModGeneration.Builder builder, String folderName, Set<String> regressions) {
+        if (builder.get(folderName) != null) {
+            regressions.add(folderName);
+        }
+    }
+    
+    /**
+     * Ativa a geração preparada por {@link #prepareReload}, trocando-a atomicamente pela ativa.
+     * Se outra geração foi ativada enquanto esta era preparada, nada é ativado e o resultado
+     * indica {@link ReloadResult#staleBase()}: quem pediu o recarregamento deve prepará-lo de novo
+     * fora da thread principal. Deve ser chamado na thread principal do servidor.
+     * @return O resumo do que mudou
+     */
+    public static ReloadResult applyReload(PreparedReload prepared) {
+        ModGeneration current = CURRENT.get();
+        if (prepared.base() != current) {
+            LOGGER.info("[Reload] A geração {} foi substituída pela {} durante a preparação; a preparação será refeita", 
+                prepared.base().number(), current.number());
+            return ReloadResult.stale(current.number());
+        }
+        
+        if (prepared.generation() != null) {
+            commitGeneration(prepared.generation());
+        }
+        
+        long durationNanos = System.nanoTime() - prepared.startNanos();
+        long durationMillis = durationNanos / 1_000_000L;
+        long generation = CURRENT.get().number();
+        JsonLoaderMetrics.RELOAD_DURATION.observe(durationNanos / 1e9);
+        JsonLoaderMetrics.RELOADS.inc(prepared.rejected() ? JsonLoaderMetrics.RELOAD_REJECTED 
+            : prepared.generation() != null ? JsonLoaderMetrics.RELOAD_APPLIED : JsonLoaderMetrics.RELOAD_UNCHANGED);
+        if (prepared.rejected()) {
+            LOGGER.info("=== RECARREGAMENTO DESCARTADO EM {} ms (geração {} mantida) ===", durationMillis, generation);
+        } else {
+            LOGGER.info("=== RECARREGAMENTO CONCLUÍDO EM {} ms (geração {}) ===", durationMillis, generation);
+        }
+        LOGGER.info("Adicionados: {}, alterados: {}, removidos: {}, com falha: {}, inalterados: {}",
+            prepared.added().size(), prepared.changed().size(), prepared.removed().size(), prepared.failed().size(), 
+            prepared.unchanged());
+        
+        return new ReloadResult(prepared.added(), prepared.changed(), prepared.removed(), prepared.failed(),
+            prepared.unchanged(), durationMillis, prepared.rejected(), generation, false);
+    }
+    
+    /**
+     * Volta para a geração substituída pelo último recarregamento.
+     * A geração desfeita é liberada; só é possível voltar uma geração.
+     * Deve ser chamado na thread principal do servidor.
+     * @return A geração reativada, ou null se não houver geração anterior
+     */
+    public static ModGeneration rollbackReload() {
+        ModGeneration previous = previousGeneration;
+        if (previous == null) {
+            return null;
+        }
+        previousGeneration = null;
+        ModGeneration current = CURRENT.getAndSet(previous);
+        DynamicResourcePackManager.scheduleTemporaryFilesSync(current.textures(), previous.textures());
+        LOGGER.info("[Rollback] Geração {} desfeita; geração {} reativada ({} mods)", 
+            current.number(), previous.number(), previous.mods().mods().size());
+        return previous;
+    }
+    
+    /**
+     * Troca a geração ativa pela nova e mantém a substituída para rollback.
+     */
+    private static void commitGeneration(ModGeneration generation) {
+        ModGeneration current = CURRENT.getAndSet(generation);
+        previousGeneration = current.number() > 0 ? current : null;
+        DynamicResourcePackManager.scheduleTemporaryFilesSync(current.textures(), generation.textures());
+        LOGGER.info("[Geração] Geração {} ativada: {} mods, {} drops de blocos, {} drops de mobs, {} recursos", 
+            generation.number(), generation.mods().mods().size(), generation.drops().blockDrops().size(),
+            generation.drops().mobDrops().size(), generation.textures().size());
+    }
+    
+    /**
+     * Uma pasta nova ou alterada, com o mod já lido (null se a leitura falhou).
+     */
+    private record ReloadEntry(String folderName, ModFolderManifest manifest, ParsedMod parsedMod) {}
+    
+    /**
+     * Retorna a pasta onde ficam os mods JSON.
+     */
+    public static Path getModsFolder() {
+        return Paths.get(JSONMODS_FOLDER);
+    }
+    
+    /**
+     * Indica se uma entrada da pasta 'jsonmods' é um mod: uma pasta ou um pacote (.zip ou .jar)
+     * que não esteja oculto.
+     */
+    static boolean isModFolder(Path path) {
+        return (Files.isDirectory(path) || ModArchive.isArchive(path)) && !path.getFileName().toString().startsWith(".");
+    }
+    
+    /**
+     * Lista as pastas e pacotes de mods em ordem alfabética, criando a pasta 'jsonmods' se necessário.
+     * Pastas ocultas, como a '.cache', são ignoradas. Pacotes são identificados pelo nome
+     * completo do arquivo, para não colidirem com uma pasta de mesmo nome.
+     * @return As pastas e pacotes encontrados, ou null se a pasta 'jsonmods' não puder ser lida
+     */
+    private static List<Path> listModFolders(Path jsonmodsPath) {
+        // Verifica se a pasta jsonmods existe, se não, cria
         if (!Files.exists(jsonmodsPath)) {
             try {
                 Files.createDirectories(jsonmodsPath);
                 LOGGER.info("[Diretório] Pasta '{}' não existia e foi criada com sucesso", JSONMODS_FOLDER);
             } catch (IOException e) {
                 LOGGER.error("[ERRO CRÍTICO] Falha ao criar pasta '{}': {}", JSONMODS_FOLDER, e.getMessage());
-                return;
+                return null;
             }
         }
         
-        // Lista todas as subpastas (cada uma é um mod)
-        try {
-            List<Path> modFolders = Files.list(jsonmodsPath)
-                    .filter(Files::isDirectory)
+        List<Path> modFolders;
+        try (Stream<Path> stream = Files.list(jsonmodsPath)) {
+            modFolders = stream
+                    .filter(JsonModLoader::isModFolder)
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
                     .collect(Collectors.toList());
-            
-            if (modFolders.isEmpty()) {
-                LOGGER.warn("[Aviso] Nenhum mod encontrado na pasta '{}'. Crie subpastas com arquivos mod.json para adicionar mods.", JSONMODS_FOLDER);
-            } else {
-                LOGGER.info("[Descoberta] Encontrados {} possíveis mods na pasta '{}'", modFolders.size(), JSONMODS_FOLDER);
+        } catch (IOException e) {
+            LOGGER.error("[ERRO CRÍTICO] Falha ao listar mods na pasta '{}': {}", JSONMODS_FOLDER, e.getMessage());
+            LOGGER.error("Detalhes da exceção:", e);
+            return null;
+        }
+        
+        if (DefinitionCache.isEnabled()) {
+            DefinitionCache.prune(jsonmodsPath, modFolders.stream()
+                    .map(path -> path.getFileName().toString())
+                    .collect(Collectors.toSet()));
+        }
+        return modFolders;
+    }
+    
+    /**
+     * Aplica uma tarefa a cada pasta de mod, em paralelo quando configurado.
+     * O resultado mantém a mesma ordem da lista de entrada; posições com falha ficam null.
+     */
+    private static <T> List<T> parallelMap(List<Path> modFolders, Function<Path, T> task) {
+        List<T> results = new ArrayList<>(modFolders.size());
+        int threads = Math.min(LOADER_THREADS, modFolders.size());
+        
+        if (threads <= 1) {
+            for (Path modFolder : modFolders) {
+                results.add(task.apply(modFolder));
             }
-            
-            // Carrega cada mod individualmente
-            int successCount = 0;
+            return results;
+        }
+        
+        LOGGER.debug("[Paralelo] Processando {} mods com {} threads", modFolders.size(), threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ParserThreadFactory());
+        try {
+            List<Future<T>> futures = new ArrayList<>(modFolders.size());
             for (Path modFolder : modFolders) {
-                boolean success = loadMod(modFolder);
-                if (success) {
-                    successCount++;
-                }
+                futures.add(executor.submit(() -> task.apply(modFolder)));
             }
             
-            LOGGER.info("=== CARREGAMENTO DE MODS CONCLUÍDO ===");
-            LOGGER.info("Total de mods encontrados: {}", modFolders.size());
-            LOGGER.info("Mods carregados com sucesso: {}", successCount);
-            LOGGER.info("Mods com falha no carregamento: {}", modFolders.size() - successCount);
-            
-        } catch (IOException e) {
-            LOGGER.error("[ERRO CRÍTICO] Falha ao listar mods na pasta '{}': {}", JSONMODS_FOLDER, e.getMessage());
-            LOGGER.error("Detalhes da exceção:", e);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    LOGGER.error("[ERRO] Exceção ao ler mod da pasta '{}': {}", 
+                        modFolders.get(i).getFileName(), e.getCause().getMessage());
+                    LOGGER.debug("Detalhes da exceção:", e.getCause());
+                    results.add(null);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("[ERRO CRÍTICO] Carregamento de mods interrompido");
+            while (results.size() < modFolders.size()) {
+                results.add(null);
+            }
+        } finally {
+            executor.shutdownNow();
         }
+        return results;
     }
     
     /**
-     * Carrega um mod específico a partir de sua pasta.
-     * @return true se o mod foi carregado com sucesso, false caso contrário
+     * Lê os arquivos JSON de um mod específico a partir de sua pasta ou pacote.
+     * Não altera nenhum estado global, podendo ser executado em paralelo.
+     * @param manifest O retrato atual da pasta, cujo hash identifica a entrada no cache
+     * @param metadata O mod.json já lido, ou null para lê-lo junto com o restante
+     * @return o mod lido, ou null se o mod.json estiver ausente ou inválido
      */
-    private static boolean loadMod(Path modFolder) {
+    private static ParsedMod parseMod(Path modFolder, ModFolderManifest manifest, ModMetadata metadata) {
         String folderName = modFolder.getFileName().toString();
         
         LOGGER.info("[Mod] Iniciando carregamento do mod na pasta '{}'", folderName);
         
-        // Carrega o arquivo mod.json
-        ModMetadata metadata = loadModMetadata(modFolder);
+        // Usa o cache binário quando o conteúdo da pasta não mudou
+        String cacheKey = DefinitionCache.isEnabled() ? manifest.contentHash() : null;
+        if (cacheKey != null) {
+            LoadProfiler.Timer timer = LoadProfiler.start(folderName, LoadProfiler.Phase.CACHE);
+            ParsedMod cached = DefinitionCache.read(modFolder, cacheKey);
+            timer.stop();
+            if (cached != null) {
+                return cached;
+            }
+        }
+        
+        return readModContent(modFolder, contentRoot -> parseModContent(modFolder, contentRoot, cacheKey, metadata));
+    }
+    
+    /**
+     * Tira o retrato de uma pasta de mod, medindo o tempo gasto.
+     */
+    private static ModFolderManifest scanModFolder(Path modFolder, ModFolderManifest previous) {
+        LoadProfiler.Timer timer = LoadProfiler.start(modFolder.getFileName().toString(), LoadProfiler.Phase.SCAN);
+        try {
+            return ModFolderManifest.scan(modFolder, previous);
+        } finally {
+            timer.stop();
+        }
+    }
+    
+    /**
+     * Lê uma pasta ou pacote de mod sem usar o cache e sem alterar o estado do carregador.
+     * Usado por ferramentas externas, como os benchmarks.
+     * @return o mod lido, ou null se o mod.json estiver ausente ou inválido
+     */
+    public static ParsedMod parseModFolder(Path modFolder) {
+        return readModContent(modFolder, contentRoot -> parseModContent(modFolder, contentRoot, null, null));
+    }
+    
+    /**
+     * Lê apenas o mod.json de um mod, usado para montar o grafo de dependências.
+     * @return os metadados, ou null se o mod.json estiver ausente ou inválido
+     */
+    private static ModMetadata readModHeader(Path modFolder) {
+        String folderName = modFolder.getFileName().toString();
+        LoadProfiler.Timer timer = LoadProfiler.start(folderName, LoadProfiler.Phase.METADATA);
+        ModMetadata metadata = readModContent(modFolder, contentRoot -> loadModMetadata(contentRoot, folderName));
+        timer.stop();
         if (metadata == null) {
             LOGGER.error("[ERRO] Falha ao carregar mod da pasta '{}': arquivo mod.json ausente ou inválido", folderName);
-            return false;
+        }
+        return metadata;
+    }
+    
+    /**
+     * Executa uma leitura sobre a pasta de conteúdo de um mod.
+     * Pacotes .zip/.jar são abertos e lidos diretamente do arquivo, entrada por entrada.
+     * @return o resultado da leitura, ou null se o pacote não puder ser aberto
+     */
+    private static <T> T readModContent(Path modFolder, Function<Path, T> reader) {
+        if (!ModArchive.isArchive(modFolder)) {
+            return reader.apply(modFolder);
+        }
+        
+        try (FileSystem archive = ModArchive.open(modFolder)) {
+            return reader.apply(ModArchive.contentRoot(archive));
+        } catch (IOException e) {
+            LOGGER.error("[ERRO] Falha ao abrir o pacote de mod '{}': {}", modFolder.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Retorna a primeira dependência que falhou ao carregar, ou null se nenhuma falhou.
+     */
+    private static String findFailedDependency(List<String> dependencies, Set<String> failedIds) {
+        if (dependencies != null) {
+            for (String dependency : dependencies) {
+                if (failedIds.contains(dependency)) {
+                    return dependency;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Lê o mod.json e os arquivos de blocos, itens e drops a partir da pasta de conteúdo do mod.
+     * @param modFolder A pasta ou pacote de origem do mod, que identifica o mod e sua entrada no cache
+     * @param contentRoot A pasta onde estão os arquivos do mod (dentro do pacote, no caso de .zip/.jar)
+     * @param cacheKey A chave do cache, ou null para não gravar no cache
+     * @param header O mod.json já lido (no carregamento completo, pelo grafo de dependências), ou null
+     * @return o mod lido, ou null se o mod.json estiver ausente ou inválido
+     */
+    private static ParsedMod parseModContent(Path modFolder, Path contentRoot, String cacheKey, ModMetadata header) {
+        String folderName = modFolder.getFileName().toString();
+        
+        // Carrega o arquivo mod.json, se ainda não foi lido
+        ModMetadata metadata = header;
+        if (metadata == null) {
+            LoadProfiler.Timer timer = LoadProfiler.start(folderName, LoadProfiler.Phase.METADATA);
+            metadata = loadModMetadata(contentRoot, folderName);
+            timer.stop();
+            if (metadata == null) {
+                LOGGER.error("[ERRO] Falha ao carregar mod da pasta '{}': arquivo mod.json ausente ou inválido", folderName);
+                return null;
+            }
         }
         
         LOGGER.info("[Mod] Carregando mod: {} ({}) versão {}", metadata.name(), metadata.mod_id(), metadata.version());
@@ -142,80 +782,138 @@ public class JsonModLoader {
             }
         }
         
+        // Carrega blocos, itens e drops do mod
+        LoadProfiler.Timer timer = LoadProfiler.start(folderName, LoadProfiler.Phase.BLOCKS);
+        List<BlockDefinition> blocks = loadBlocksFromMod(contentRoot, blocksFile, metadata.mod_id());
+        timer.stop();
+        timer = LoadProfiler.start(folderName, LoadProfiler.Phase.ITEMS);
+        List<ItemDefinition> items = loadItemsFromMod(contentRoot, itemsFile, metadata.mod_id());
+        timer.stop();
+        timer = LoadProfiler.start(folderName, LoadProfiler.Phase.DROPS);
+        DropsDefinition drops = loadDropsFromMod(contentRoot, dropsFile, metadata.mod_id());
+        timer.stop();
+        
+        // Arquivos com erro são tratados como vazios, mas o resultado não vai para o cache
+        // para que o erro continue aparecendo no log até ser corrigido
+        boolean complete = blocks != null && items != null && drops != null;
+        ParsedMod parsedMod = new ParsedMod(
+                modFolder,
+                metadata,
+                blocks != null ? blocks : Collections.emptyList(),
+                items != null ? items : Collections.emptyList(),
+                drops != null ? drops : new DropsDefinition(Collections.emptyList(), Collections.emptyList()),
+                complete);
+        
+        if (complete && cacheKey != null) {
+            DefinitionCache.write(parsedMod, cacheKey);
+        }
+        return parsedMod;
+    }
+    
+    /**
+     * Registra o conteúdo de um mod já lido.
+     * Deve ser chamado sempre na mesma thread, pois acessa os DeferredRegister.
+     * @param registerContent false quando os registros do Forge já estão congelados (recarregamento)
+     * @param contentHash O hash do conteúdo da pasta lida, guardado para reler as definições depois
+     * @return O mod carregado, ou null em caso de falha
+     */
+    private static LoadedMod applyParsedMod(ParsedMod parsedMod, boolean registerContent, String contentHash) {
+        LoadProfiler.Timer timer = LoadProfiler.start(parsedMod.folderName(), LoadProfiler.Phase.REGISTER);
+        try {
+            return registerParsedMod(parsedMod, registerContent, contentHash);
+        } finally {
+            timer.stop();
+        }
+    }
+    
+    private static LoadedMod registerParsedMod(ParsedMod parsedMod, boolean registerContent, String contentHash) {
+        ModMetadata metadata = parsedMod.metadata();
+        List<BlockDefinition> blocks = parsedMod.blocks();
+        List<ItemDefinition> items = parsedMod.items();
+        DropsDefinition drops = parsedMod.drops();
+        
         try {
-            // Carrega blocos, itens e drops do mod
-            List<BlockDefinition> blocks = loadBlocksFromMod(modFolder, blocksFile, metadata.mod_id());
-            List<ItemDefinition> items = loadItemsFromMod(modFolder, itemsFile, metadata.mod_id());
-            DropsDefinition drops = loadDropsFromMod(modFolder, dropsFile, metadata.mod_id());
-            
             // Registra os blocos, itens e drops carregados
-            if (!blocks.isEmpty() || !items.isEmpty() || drops != null) {
-                boolean success = registerModContent(metadata, blocks, items, drops);
+            if (parsedMod.hasContent()) {
+                boolean success;
+                if (registerContent) {
+                    success = registerModContent(metadata, blocks, items, drops);
+                } else {
+                    if (!blocks.isEmpty() || !items.isEmpty()) {
+                        LOGGER.warn("[Reload] Blocos e itens novos do mod {} só serão registrados após reiniciar o jogo", 
+                            metadata.mod_id());
+                    }
+                    success = true;
+                }
                 
                 if (success) {
-                    // Adiciona o mod à lista de mods carregados
-                    LoadedMod loadedMod = new LoadedMod(
-                            metadata.mod_id(),
-                            metadata.name(),
-                            metadata.version(),
-                            metadata.description(),
-                            metadata.author(),
-                            metadata.website(),
-                            blocks,
-                            items,
-                            drops
-                    );
+                    // Adiciona o mod à lista de mods carregados, guardando só o resumo dos blocos e itens
+                    LoadedMod loadedMod = LoadedMod.of(parsedMod, contentHash);
                     
-                    // Processa as texturas do mod para o resource pack dinâmico
-                    try {
-                        DynamicResourcePackManager.processModTextures(loadedMod);
-                        LOGGER.info("[Mod] Texturas do mod {} processadas com sucesso", metadata.mod_id());
-                    } catch (Exception e) {
-                        LOGGER.error("[Mod] Erro ao processar texturas do mod {}: {}", metadata.mod_id(), e.getMessage());
-                        LOGGER.debug("[Mod] Detalhes da exceção:", e);
-                    }
-                    
-                    LOADED_MODS.add(loadedMod);
                     LOGGER.info("[Sucesso] Mod {} ({}) versão {} carregado com sucesso!", metadata.name(), metadata.mod_id(), metadata.version());
-                    return true;
+                    return loadedMod;
                 } else {
                     LOGGER.error("[ERRO] Falha ao registrar conteúdo do mod {} ({})", metadata.name(), metadata.mod_id());
-                    return false;
+                    return null;
                 }
             } else {
                 LOGGER.warn("[Aviso] Mod {} ({}) não contém blocos, itens ou drops para registrar", metadata.name(), metadata.mod_id());
                 // Ainda consideramos um sucesso, apenas um mod vazio
-                LoadedMod loadedMod = new LoadedMod(
-                    metadata.mod_id(),
-                    metadata.name(),
-                    metadata.version(),
-                    metadata.description(),
-                    metadata.author() != null ? metadata.author() : "Desconhecido",
-                    metadata.website(),
-                    Collections.emptyList(),
-                    Collections.emptyList(),
-                    new DropsDefinition(Collections.emptyList(), Collections.emptyList()),
-                    0,
-                    modFolder.toString()
-                );
-                LOADED_MODS.add(loadedMod);
-                return true;
+                return LoadedMod.of(parsedMod, contentHash);
             }
         } catch (Exception e) {
             LOGGER.error("[ERRO CRÍTICO] Exceção ao carregar mod {} ({}): {}", 
                 metadata.name(), metadata.mod_id(), e.getMessage());
             LOGGER.error("Detalhes da exceção:", e);
-            return false;
+            return null;
+        }
+    }
+    
+    /**
+     * Processa as texturas do mod para o resource pack dinâmico. Os recursos passam a valer
+     * junto com a geração que contém o mod. Depois disso, o conteúdo original das texturas
+     * só é mantido pelo mod lido, que é descartado.
+     * @return Os recursos do mod, ou um mapa vazio se o processamento falhar
+     */
+    private static Map<String, byte[]> buildModResources(ParsedMod parsedMod) {
+        String modId = parsedMod.metadata().mod_id();
+        LoadProfiler.Timer timer = LoadProfiler.start(parsedMod.folderName(), LoadProfiler.Phase.TEXTURES);
+        try {
+            Map<String, byte[]> resources = DynamicResourcePackManager.buildModResources(modId, parsedMod.blocks(), parsedMod.items());
+            LOGGER.info("[Mod] Texturas do mod {} processadas com sucesso", modId);
+            return resources;
+        } catch (Exception e) {
+            LOGGER.error("[Mod] Erro ao processar texturas do mod {}: {}", modId, e.getMessage());
+            LOGGER.debug("[Mod] Detalhes da exceção:", e);
+            return Collections.emptyMap();
+        } finally {
+            timer.stop();
+        }
+    }
+    
+    /**
+     * Fábrica de threads para a leitura paralela de mods.
+     * As threads são daemon para nunca impedir o encerramento do jogo.
+     */
+    private static final class ParserThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "JSONloader-Parser-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
     
     /**
      * Carrega os metadados de um mod a partir do arquivo mod.json.
+     * @param folderName O nome da pasta ou pacote do mod, usado nas mensagens de log
      */
-    private static ModMetadata loadModMetadata(Path modFolder) {
+    private static ModMetadata loadModMetadata(Path modFolder, String folderName) {
         Path modJsonFile = modFolder.resolve(MOD_JSON_FILENAME);
         if (!Files.exists(modJsonFile)) {
-            LOGGER.error("Arquivo '{}' não encontrado na pasta {}", MOD_JSON_FILENAME, modFolder.getFileName());
+            LOGGER.error("Arquivo '{}' não encontrado na pasta {}", MOD_JSON_FILENAME, folderName);
             return null;
         }
         
@@ -225,28 +923,28 @@ public class JsonModLoader {
             ModMetadata metadata = GSON.fromJson(reader, ModMetadata.class);
             
             if (metadata == null) {
-                LOGGER.error("Falha ao analisar mod.json da pasta {}. GSON retornou null.", modFolder.getFileName());
+                LOGGER.error("Falha ao analisar mod.json da pasta {}. GSON retornou null.", folderName);
                 return null;
             }
             
             // Validação de campos obrigatórios
             if (metadata.mod_id() == null || metadata.mod_id().isEmpty()) {
-                LOGGER.error("Campo obrigatório 'mod_id' ausente ou vazio no mod.json da pasta {}", modFolder.getFileName());
+                LOGGER.error("Campo obrigatório 'mod_id' ausente ou vazio no mod.json da pasta {}", folderName);
                 return null;
             }
             
             if (metadata.name() == null || metadata.name().isEmpty()) {
-                LOGGER.error("Campo obrigatório 'name' ausente ou vazio no mod.json da pasta {}", modFolder.getFileName());
+                LOGGER.error("Campo obrigatório 'name' ausente ou vazio no mod.json da pasta {}", folderName);
                 return null;
             }
             
             if (metadata.version() == null || metadata.version().isEmpty()) {
-                LOGGER.error("Campo obrigatório 'version' ausente ou vazio no mod.json da pasta {}", modFolder.getFileName());
+                LOGGER.error("Campo obrigatório 'version' ausente ou vazio no mod.json da pasta {}", folderName);
                 return null;
             }
             
             if (metadata.description() == null || metadata.description().isEmpty()) {
-                LOGGER.error("Campo obrigatório 'description' ausente ou vazio no mod.json da pasta {}", modFolder.getFileName());
+                LOGGER.error("Campo obrigatório 'description' ausente ou vazio no mod.json da pasta {}", folderName);
                 return null;
             }
             
@@ -254,16 +952,17 @@ public class JsonModLoader {
             return metadata;
             
         } catch (JsonSyntaxException e) {
-            LOGGER.error("Erro de sintaxe JSON no arquivo mod.json da pasta {}: {}", modFolder.getFileName(), e.getMessage());
+            LOGGER.error("Erro de sintaxe JSON no arquivo mod.json da pasta {}: {}", folderName, e.getMessage());
             return null;
         } catch (Exception e) {
-            LOGGER.error("Erro ao carregar mod.json da pasta {}: {}", modFolder.getFileName(), e.getMessage());
+            LOGGER.error("Erro ao carregar mod.json da pasta {}: {}", folderName, e.getMessage());
             return null;
         }
     }
     
     /**
      * Carrega os blocos de um mod específico.
+     * @return As definições lidas (vazias se o arquivo não existir), ou null em caso de erro
      */
     private static List<BlockDefinition> loadBlocksFromMod(Path modFolder, String blocksFileName, String modId) {
         Path blocksFile = modFolder.resolve(blocksFileName);
@@ -276,12 +975,13 @@ public class JsonModLoader {
             return loadBlocksFromInputStream(inputStream, modId);
         } catch (Exception e) {
             LOGGER.error("Erro ao carregar blocos do mod {}: {}", modId, e.getMessage());
-            return Collections.emptyList();
+            return null;
         }
     }
     
     /**
      * Carrega os itens de um mod específico.
+     * @return As definições lidas (vazias se o arquivo não existir), ou null em caso de erro
      */
     private static List<ItemDefinition> loadItemsFromMod(Path modFolder, String itemsFileName, String modId) {
         Path itemsFile = modFolder.resolve(itemsFileName);
@@ -294,12 +994,13 @@ public class JsonModLoader {
             return loadItemsFromInputStream(inputStream, modId);
         } catch (Exception e) {
             LOGGER.error("Erro ao carregar itens do mod {}: {}", modId, e.getMessage());
-            return Collections.emptyList();
+            return null;
         }
     }
     
     /**
      * Carrega os drops de um mod específico.
+     * @return As definições lidas (vazias se o arquivo não existir), ou null em caso de erro
      */
     private static DropsDefinition loadDropsFromMod(Path modFolder, String dropsFileName, String modId) {
         Path dropsFile = modFolder.resolve(dropsFileName);
@@ -312,78 +1013,70 @@ public class JsonModLoader {
             return loadDropsFromInputStream(inputStream, modId);
         } catch (Exception e) {
             LOGGER.error("Erro ao carregar drops do mod {}: {}", modId, e.getMessage());
-            return new DropsDefinition(Collections.emptyList(), Collections.emptyList());
+            return null;
         }
     }
     
     /**
      * Processa o stream de entrada para carregar definições de blocos.
+     * As definições são lidas uma a uma, sem montar a árvore JSON completa.
+     * @return As definições lidas, ou null em caso de erro
      */
     private static List<BlockDefinition> loadBlocksFromInputStream(InputStream inputStream, String modId) {
         try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            Type listType = new TypeToken<List<BlockDefinition>>() {}.getType();
-            List<BlockDefinition> definitions = GSON.fromJson(reader, listType);
-            
-            if (definitions == null) {
-                LOGGER.error("Falha ao analisar blocks.json do mod {}. GSON retornou null.", modId);
-                return Collections.emptyList();
-            }
+            List<BlockDefinition> definitions = new ArrayList<>();
+            DefinitionStreams.readBlocks(reader, def -> {
+                LOGGER.debug("Carregada definição para bloco ID: {}", def.id());
+                definitions.add(def);
+            });
             
             LOGGER.info("Carregados com sucesso {} definições de blocos do mod {}.", definitions.size(), modId);
-            definitions.forEach(def -> LOGGER.debug("Carregada definição para bloco ID: {}", def.id()));
-            
             return definitions;
         } catch (Exception e) {
             LOGGER.error("Erro durante análise JSON do arquivo blocks.json do mod {}", modId, e);
-            return Collections.emptyList();
+            return null;
         }
     }
     
     /**
      * Processa o stream de entrada para carregar definições de itens.
+     * As definições são lidas uma a uma, sem montar a árvore JSON completa.
+     * @return As definições lidas, ou null em caso de erro
      */
     private static List<ItemDefinition> loadItemsFromInputStream(InputStream inputStream, String modId) {
         try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            Type listType = new TypeToken<List<ItemDefinition>>() {}.getType();
-            List<ItemDefinition> definitions = GSON.fromJson(reader, listType);
-            
-            if (definitions == null) {
-                LOGGER.error("Falha ao analisar items.json do mod {}. GSON retornou null.", modId);
-                return Collections.emptyList();
-            }
+            List<ItemDefinition> definitions = new ArrayList<>();
+            DefinitionStreams.readItems(reader, def -> {
+                LOGGER.debug("Carregada definição para item ID: {}", def.id());
+                definitions.add(def);
+            });
             
             LOGGER.info("Carregados com sucesso {} definições de itens do mod {}.", definitions.size(), modId);
-            definitions.forEach(def -> LOGGER.debug("Carregada definição para item ID: {}", def.id()));
-            
             return definitions;
         } catch (Exception e) {
             LOGGER.error("Erro durante análise JSON do arquivo items.json do mod {}", modId, e);
-            return Collections.emptyList();
+            return null;
         }
     }
     
     /**
      * Processa o stream de entrada para carregar definições de drops.
+     * Cada drop de bloco ou de mob é lido individualmente.
+     * @return As definições lidas, ou null em caso de erro
      */
     private static DropsDefinition loadDropsFromInputStream(InputStream inputStream, String modId) {
         try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            DropsDefinition definition = GSON.fromJson(reader, DropsDefinition.class);
-            
-            if (definition == null) {
-                LOGGER.error("Falha ao analisar drops.json do mod {}. GSON retornou null.", modId);
-                return new DropsDefinition(Collections.emptyList(), Collections.emptyList());
-            }
-            
-            int blockDropsCount = definition.block_drops() != null ? definition.block_drops().size() : 0;
-            int mobDropsCount = definition.mob_drops() != null ? definition.mob_drops().size() : 0;
+            List<BlockDrop> blockDrops = new ArrayList<>();
+            List<MobDrop> mobDrops = new ArrayList<>();
+            DefinitionStreams.readDrops(reader, blockDrops::add, mobDrops::add);
             
             LOGGER.info("Carregados com sucesso {} definições de drops de blocos e {} definições de drops de mobs do mod {}.", 
-                blockDropsCount, mobDropsCount, modId);
+                blockDrops.size(), mobDrops.size(), modId);
             
-            return definition;
+            return new DropsDefinition(blockDrops, mobDrops);
         } catch (Exception e) {
             LOGGER.error("Erro durante análise JSON do arquivo drops.json do mod {}", modId, e);
-            return new DropsDefinition(Collections.emptyList(), Collections.emptyList());
+            return null;
         }
     }
     
@@ -0,0 +1,218 @@
+package com.jsonloader.loader.core.loader;
+
+import com.jsonloader.loader.JSONloader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+/**
+ * Observa a pasta 'jsonmods' e recarrega automaticamente os mods alterados.
+ * Rajadas de eventos de arquivo são agrupadas em um único recarregamento por pasta
+ * de mod após um intervalo sem novas alterações. A leitura acontece em uma thread
+ * própria e apenas a aplicação do resultado roda na thread principal do servidor.
+ * Enquanto nada muda, a thread fica bloqueada no WatchService, sem custo por tick.
+ * Habilitado com -Djsonloader.watch=true.
+ */
+public final class JsonModsWatcher {
+    private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " JsonModsWatcher");
+    private static final String ENABLED_PROPERTY = "jsonloader.watch";
+    private static final String DEBOUNCE_PROPERTY = "jsonloader.watchDebounceMs";
+    private static final long DEBOUNCE_MILLIS = Math.max(50L, Long.getLong(DEBOUNCE_PROPERTY, 500L));
+
+    private static JsonModsWatcher instance;
+
+    private final Path root;
+    private final Executor mainThreadExecutor;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private final Set<String> pendingFolders = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+    private final Thread watchThread;
+    private ScheduledFuture<?> scheduledReload;
+    private volatile boolean running = true;
+
+    private JsonModsWatcher(Path root, Executor mainThreadExecutor) throws IOException {
+        this.root = root.toAbsolutePath();
+        this.mainThreadExecutor = mainThreadExecutor;
+        this.watchService = root.getFileSystem().newWatchService();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JSONloader-Watcher-Debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchThread = new Thread(this::watchLoop, "JSONloader-Watcher");
+        this.watchThread.setDaemon(true);
+        registerRecursively(this.root);
+    }
+
+    /**
+     * Indica se o observador está habilitado nas propriedades do sistema.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Inicia o observador, se ainda não estiver em execução.
+     * @param mainThreadExecutor Executor da thread principal do servidor, onde o resultado é aplicado
+     */
+    public static synchronized void start(Executor mainThreadExecutor) {
+        if (instance != null) {
+            return;
+        }
+
+        Path root = JsonModLoader.getModsFolder();
+        try {
+            Files.createDirectories(root);
+            instance = new JsonModsWatcher(root, mainThreadExecutor);
+            instance.watchThread.start();
+            LOGGER.info("[Watcher] Observando alterações em '{}' (intervalo de {} ms)", root, DEBOUNCE_MILLIS);
+        } catch (IOException e) {
+            LOGGER.error("[Watcher] Falha ao iniciar o observador de '{}': {}", root, e.getMessage());
+        }
+    }
+
+    /**
+     * Para o observador, descartando alterações ainda não aplicadas.
+     */
+    public static synchronized void stop() {
+        if (instance == null) {
+            return;
+        }
+
+        instance.running = false;
+        instance.scheduler.shutdownNow();
+        try {
+            instance.watchService.close();
+        } catch (IOException e) {
+            LOGGER.debug("[Watcher] Erro ao fechar o WatchService: {}", e.getMessage());
+        }
+        instance = null;
+        LOGGER.info("[Watcher] Observador parado");
+    }
+
+    private void watchLoop() {
+        while (running) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+
+            Path directory = watchedDirectories.get(key);
+            if (directory != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    handleEvent(directory, event);
+                }
+            }
+
+            if (!key.reset()) {
+                watchedDirectories.remove(key);
+            }
+        }
+    }
+
+    private void handleEvent(Path directory, WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            // Eventos perdidos: verifica todas as pastas e pacotes de mods
+            try (Stream<Path> stream = Files.list(root)) {
+                stream.filter(JsonModLoader::isModFolder).forEach(path -> markDirty(path.getFileName().toString()));
+            } catch (IOException e) {
+                LOGGER.warn("[Watcher] Falha ao listar '{}' após perda de eventos: {}", root, e.getMessage());
+            }
+            return;
+        }
+
+        Path changed = directory.resolve((Path) event.context());
+        Path relative = root.relativize(changed);
+        if (relative.getNameCount() == 0) {
+            return;
+        }
+
+        String folderName = relative.getName(0).toString();
+        if (folderName.startsWith(".")) {
+            // Ignora pastas ocultas, como o cache de definições
+            return;
+        }
+
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+            try {
+                registerRecursively(changed);
+            } catch (IOException e) {
+                LOGGER.warn("[Watcher] Falha ao observar '{}': {}", changed, e.getMessage());
+            }
+        }
+
+        markDirty(folderName);
+    }
+
+    private void markDirty(String folderName) {
+        if (folderName.startsWith(".")) {
+            return;
+        }
+
+        pendingFolders.add(folderName);
+        synchronized (this) {
+            if (scheduledReload != null) {
+                scheduledReload.cancel(false);
+            }
+            if (!scheduler.isShutdown()) {
+                scheduledReload = scheduler.schedule(this::reloadPending, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void reloadPending() {
+        Set<String> folders = new HashSet<>();
+        for (Iterator<String> iterator = pendingFolders.iterator(); iterator.hasNext(); ) {
+            folders.add(iterator.next());
+            iterator.remove();
+        }
+        if (folders.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("[Watcher] Alterações detectadas em: {}", String.join(", ", folders));
+
+        // Espera a aplicação terminar para que a próxima leitura já veja o novo estado
+        try {
+            ReloadCoordinator.request(folders, mainThreadExecutor).result().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (CancellationException e) {
+            LOGGER.debug("[Watcher] Recarregamento descartado");
+        } catch (ExecutionException e) {
+            LOGGER.error("[Watcher] Erro ao aplicar recarregamento: {}", e.getCause().getMessage());
+            LOGGER.debug("[Watcher] Detalhes da exceção:", e.getCause());
+        }
+    }
+
+    private void registerRecursively(Path directory) throws IOException {
+        try (Stream<Path> stream = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                if (!Files.isDirectory(path) || isHidden(path)) {
+                    continue;
+                }
+                WatchKey key = path.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedDirectories.put(key, path);
+            }
+        }
+    }
+
+    private boolean isHidden(Path path) {
+        Path relative = root.relativize(path.toAbsolutePath());
+        return relative.getNameCount() > 0 && relative.getName(0).toString().startsWith(".");
+    }
+}
@@ -0,0 +1,328 @@
+package com.jsonloader.loader.core.loader;
+
+import com.google.gson.stream.JsonWriter;
+import com.jsonloader.loader.JSONloader;
+import com.jsonloader.loader.core.jfr.ModLoadPhaseEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mede o tempo de cada fase do carregamento de cada mod JSON (retrato da pasta, mod.json,
+ * cache, blocos, itens, drops, registro e texturas). Cada carregamento ou recarregamento
+ * é uma execução; a última execução que leu algum mod fica disponível para o comando
+ * /jsonmods profile e é gravada em JSON em 'jsonmods/.profile/profile.json'.
+ * Durante a execução todos os mods são medidos; o relatório guarda apenas os mais lentos
+ * (-Djsonloader.profile.maxMods), e os totais por fase sempre incluem todos os mods.
+ * Com o JFR gravando, cada fase também gera um {@link ModLoadPhaseEvent}.
+ */
+public final class LoadProfiler {
+    private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " LoadProfiler");
+    private static final String MAX_MODS_PROPERTY = "jsonloader.profile.maxMods";
+    private static final String FILE_PROPERTY = "jsonloader.profile.file";
+    private static final int MAX_MODS = Math.max(1, Integer.getInteger(MAX_MODS_PROPERTY, 512));
+    private static final Phase[] PHASES = Phase.values();
+    // Do mais lento para o mais rápido; empates pela pasta, para o relatório não variar entre execuções
+    private static final Comparator<ModTiming> SLOWEST_FIRST = Comparator.comparingLong(ModTiming::totalNanos).reversed()
+            .thenComparing(ModTiming::folderName);
+
+    private static volatile Run current;
+    private static volatile Profile lastProfile;
+
+    private LoadProfiler() {
+    }
+
+    /**
+     * As fases medidas no carregamento de um mod.
+     */
+    public enum Phase {
+        SCAN("retrato"),
+        METADATA("mod.json"),
+        CACHE("cache"),
+        BLOCKS("blocos"),
+        ITEMS("itens"),
+        DROPS("drops"),
+        REGISTER("registro"),
+        TEXTURES("texturas");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Nome da fase exibido nos relatórios.
+         */
+        public String label() {
+            return label;
+        }
+    }
+
+    /**
+     * Os tempos de um mod em uma execução.
+     * @param folderName A pasta ou pacote do mod
+     * @param phaseNanos O tempo de cada fase, em nanossegundos (fases sem tempo ficam de fora)
+     */
+    public record ModTiming(String folderName, Map<Phase, Long> phaseNanos) {
+        /**
+         * Soma dos tempos de todas as fases.
+         */
+        public long totalNanos() {
+            long total = 0;
+            for (long nanos : phaseNanos.values()) {
+                total += nanos;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * O resultado de uma execução.
+     * @param label "carregamento" ou "recarregamento"
+     * @param startedAtMillis Início da execução (System.currentTimeMillis)
+     * @param wallNanos Duração total da execução
+     * @param phaseTotals O tempo somado de cada fase em todos os mods (em paralelo, pode passar da duração total)
+     * @param mods Os tempos de cada mod, do mais lento para o mais rápido
+     * @param truncated true se algum mod (dos mais rápidos) ficou de fora de {@code mods} pelo limite de tamanho
+     */
+    public record Profile(
+        String label,
+        long startedAtMillis,
+        long wallNanos,
+        Map<Phase, Long> phaseTotals,
+        List<ModTiming> mods,
+        boolean truncated
+    ) {
+        /**
+         * Retorna os {@code count} mods mais lentos.
+         */
+        public List<ModTiming> slowest(int count) {
+            return mods.subList(0, Math.min(count, mods.size()));
+        }
+
+        /**
+         * Soma dos totais de todas as fases.
+         */
+        public long phaseNanos() {
+            long total = 0;
+            for (long nanos : phaseTotals.values()) {
+                total += nanos;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Retorna a última execução que leu algum mod, ou null.
+     */
+    public static Profile getLastProfile() {
+        return lastProfile;
+    }
+
+    /**
+     * Retorna o arquivo onde as execuções são gravadas.
+     */
+    public static Path getProfileFile() {
+        String file = System.getProperty(FILE_PROPERTY);
+        return file != null ? Paths.get(file) : JsonModLoader.getModsFolder().resolve(".profile").resolve("profile.json");
+    }
+
+    /**
+     * Inicia uma execução, descartando a que estiver em andamento.
+     */
+    static void begin(String label) {
+        current = new Run(label);
+    }
+
+    /**
+     * Começa a medir uma fase de um mod. O tempo é somado à execução em andamento, se houver,
+     * e também vira um {@link ModLoadPhaseEvent} quando o JFR está gravando.
+     * @return O cronômetro, a ser parado com {@link Timer#stop()}
+     */
+    static Timer start(String folderName, Phase phase) {
+        return new Timer(current, folderName, phase);
+    }
+
+    /**
+     * Encerra a execução em andamento. Se ela leu algum mod, passa a ser a última execução
+     * e é gravada em disco.
+     */
+    static void finish() {
+        Run run = current;
+        current = null;
+        if (run == null || !run.readAnyMod()) {
+            return;
+        }
+
+        Profile profile = run.toProfile();
+        lastProfile = profile;
+        LOGGER.info("[Perfil] {} de {} mods em {} ms; fases: {}", profile.label(), profile.mods().size(),
+                profile.wallNanos() / 1_000_000L, formatTotals(profile));
+        write(profile, getProfileFile());
+    }
+
+    private static String formatTotals(Profile profile) {
+        List<String> parts = new ArrayList<>();
+        profile.phaseTotals().forEach((phase, nanos) -> parts.add(phase.label() + " " + nanos / 1_000_000L + " ms"));
+        return String.join(", ", parts);
+    }
+
+    private static void write(Profile profile, Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                 JsonWriter json = new JsonWriter(out)) {
+                json.setIndent("  ");
+                json.beginObject();
+                json.name("label").value(profile.label());
+                json.name("started_at").value(profile.startedAtMillis());
+                json.name("wall_nanos").value(profile.wallNanos());
+                json.name("truncated").value(profile.truncated());
+                json.name("phase_totals_nanos");
+                writePhases(json, profile.phaseTotals());
+                json.name("mods").beginArray();
+                for (ModTiming mod : profile.mods()) {
+                    json.beginObject();
+                    json.name("folder").value(mod.folderName());
+                    json.name("total_nanos").value(mod.totalNanos());
+                    json.name("phases_nanos");
+                    writePhases(json, mod.phaseNanos());
+                    json.endObject();
+                }
+                json.endArray();
+                json.endObject();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("[Perfil] Não foi possível gravar o perfil em {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void writePhases(JsonWriter json, Map<Phase, Long> phases) throws IOException {
+        json.beginObject();
+        for (Map.Entry<Phase, Long> entry : phases.entrySet()) {
+            json.name(entry.getKey().name().toLowerCase(Locale.ROOT)).value(entry.getValue());
+        }
+        json.endObject();
+    }
+
+    /**
+     * Mede uma fase de um mod.
+     */
+    static final class Timer {
+        private final Run run;
+        private final String folderName;
+        private final Phase phase;
+        private final long startNanos = System.nanoTime();
+        private final ModLoadPhaseEvent event = new ModLoadPhaseEvent();
+
+        private Timer(Run run, String folderName, Phase phase) {
+            this.run = run;
+            this.folderName = folderName;
+            this.phase = phase;
+            event.begin();
+        }
+
+        /**
+         * Para o cronômetro e registra o tempo da fase.
+         */
+        void stop() {
+            if (run != null) {
+                run.add(folderName, phase, System.nanoTime() - startNanos);
+            }
+            if (event.shouldCommit()) {
+                event.folder = folderName;
+                event.phase = phase.name().toLowerCase(Locale.ROOT);
+                event.run = run != null ? run.label : null;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Uma execução em andamento. Os tempos chegam das threads de leitura em paralelo.
+     */
+    private static final class Run {
+        private final String label;
+        private final long startedAtMillis = System.currentTimeMillis();
+        private final long startNanos = System.nanoTime();
+        private final Map<String, AtomicLongArray> mods = new ConcurrentHashMap<>();
+        private final LongAdder[] totals = new LongAdder[PHASES.length];
+
+        private Run(String label) {
+            this.label = label;
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] = new LongAdder();
+            }
+        }
+
+        private void add(String folderName, Phase phase, long nanos) {
+            totals[phase.ordinal()].add(nanos);
+            // Todos os mods são somados; o limite só é aplicado no relatório, que mantém os mais lentos
+            mods.computeIfAbsent(folderName, key -> new AtomicLongArray(PHASES.length)).addAndGet(phase.ordinal(), nanos);
+        }
+
+        // Um recarregamento sem alterações só tira os retratos das pastas e não substitui a última execução
+        private boolean readAnyMod() {
+            for (Phase phase : PHASES) {
+                if (phase != Phase.SCAN && totals[phase.ordinal()].sum() > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Profile toProfile() {
+            Map<Phase, Long> phaseTotals = new EnumMap<>(Phase.class);
+            for (Phase phase : PHASES) {
+                long nanos = totals[phase.ordinal()].sum();
+                if (nanos > 0) {
+                    phaseTotals.put(phase, nanos);
+                }
+            }
+
+            // Heap limitado com o mais rápido dos mantidos no topo, para descartar sem ordenar todos os mods
+            PriorityQueue<ModTiming> slowest = new PriorityQueue<>(Math.min(mods.size(), MAX_MODS) + 1,
+                    SLOWEST_FIRST.reversed());
+            mods.forEach((folderName, array) -> {
+                Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+                for (Phase phase : PHASES) {
+                    long nanos = array.get(phase.ordinal());
+                    if (nanos > 0) {
+                        phaseNanos.put(phase, nanos);
+                    }
+                }
+                slowest.add(new ModTiming(folderName, Collections.unmodifiableMap(phaseNanos)));
+                if (slowest.size() > MAX_MODS) {
+                    slowest.poll();
+                }
+            });
+            List<ModTiming> timings = new ArrayList<>(slowest);
+            timings.sort(SLOWEST_FIRST);
+
+            return new Profile(label, startedAtMillis, System.nanoTime() - startNanos,
+                    Collections.unmodifiableMap(phaseTotals), Collections.unmodifiableList(timings),
+                    mods.size() > MAX_MODS);
+        }
+    }
+}
@@ -4,11 +4,18 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Classe que representa um mod carregado com suas estatísticas.
+ * Depois do registro, o mod guarda apenas um resumo de cada bloco e item; o conteúdo das
+ * texturas (por exemplo, as strings base64) fica só no resource pack dinâmico.
+ * Os drops são mantidos completos, pois as tabelas de drops são montadas a partir deles.
+ * @param dependencies Os IDs dos mods dos quais este depende, como declarados no mod.json
+ * @param directory A pasta ou pacote de origem do mod
+ * @param contentHash O hash do conteúdo da pasta quando o mod foi lido, ou null se não for conhecido
  */
 public record LoadedMod(
     String modId,
@@ -17,39 +24,39 @@ public record LoadedMod(
     String description,
     String author,
     String website,
-    List<BlockDefinition> blocks,
-    List<ItemDefinition> items,
+    List<String> dependencies,
+    List<DefinitionSummary> blocks,
+    List<DefinitionSummary> items,
     DropsDefinition drops,
     int dropsCount,
-    String directory
+    String directory,
+    String contentHash
 ) {
     /**
-     * Construtor completo para uso em carregamento de mods.
+     * Cria o mod carregado a partir de um mod lido, resumindo os blocos e itens.
+     * @param contentHash O hash do conteúdo da pasta lida, ou null se não for conhecido
      */
-    public LoadedMod(
-        String modId,
-        String name,
-        String version,
-        String description,
-        String author,
-        String website,
-        List<BlockDefinition> blocks,
-        List<ItemDefinition> items,
-        DropsDefinition drops
-    ) {
-        this(
-            modId, 
-            name, 
-            version, 
-            description, 
-            author, 
-            website,
-            blocks != null ? blocks : Collections.emptyList(),
-            items != null ? items : Collections.emptyList(),
+    public static LoadedMod of(ParsedMod parsedMod, String contentHash) {
+        ModMetadata metadata = parsedMod.metadata();
+        DropsDefinition drops = parsedMod.drops() != null 
+            ? parsedMod.drops() : new DropsDefinition(Collections.emptyList(), Collections.emptyList());
+        int dropsCount = (drops.block_drops() != null ? drops.block_drops().size() : 0) + 
+            (drops.mob_drops() != null ? drops.mob_drops().size() : 0);
+        return new LoadedMod(
+            metadata.mod_id(),
+            metadata.name(),
+            metadata.version(),
+            metadata.description(),
+            metadata.author() != null ? metadata.author() : "Desconhecido",
+            metadata.website(),
+            metadata.dependencies() != null 
+                ? Collections.unmodifiableList(new ArrayList<>(metadata.dependencies())) : Collections.emptyList(),
+            DefinitionSummary.ofBlocks(parsedMod.blocks()),
+            DefinitionSummary.ofItems(parsedMod.items()),
             drops,
-            (drops != null) ? ((drops.block_drops() != null ? drops.block_drops().size() : 0) + 
-                (drops.mob_drops() != null ? drops.mob_drops().size() : 0)) : 0,
-            ""
+            dropsCount,
+            parsedMod.source().toString(),
+            contentHash
         );
     }
     
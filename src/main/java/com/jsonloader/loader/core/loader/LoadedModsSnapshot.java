@@ -0,0 +1,46 @@
+package com.jsonloader.loader.core.loader;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Retrato imutável dos mods carregados, publicado de uma só vez ao fim de cada
+ * carregamento ou recarregamento. Quem lê (comandos, por exemplo) nunca bloqueia
+ * nem vê uma lista pela metade.
+ * @param mods Os mods carregados, em ordem de nome de pasta
+ * @param byId Índice dos mods por ID, em minúsculas
+ */
+public record LoadedModsSnapshot(List<LoadedMod> mods, Map<String, LoadedMod> byId) {
+    public static final LoadedModsSnapshot EMPTY = new LoadedModsSnapshot(List.of(), Map.of());
+
+    /**
+     * Cria um retrato a partir dos mods carregados.
+     * Se dois IDs diferirem apenas em maiúsculas e minúsculas, o índice guarda o primeiro.
+     */
+    public static LoadedModsSnapshot of(Collection<LoadedMod> loadedMods) {
+        List<LoadedMod> mods = List.copyOf(loadedMods);
+        Map<String, LoadedMod> byId = new HashMap<>(mods.size() * 2);
+        for (LoadedMod mod : mods) {
+            if (mod.modId() != null) {
+                byId.putIfAbsent(key(mod.modId()), mod);
+            }
+        }
+        return new LoadedModsSnapshot(mods, Collections.unmodifiableMap(byId));
+    }
+
+    /**
+     * Procura um mod pelo ID, sem diferenciar maiúsculas de minúsculas.
+     * @return O mod, ou null se não estiver carregado
+     */
+    public LoadedMod find(String modId) {
+        return modId == null ? null : byId.get(key(modId));
+    }
+
+    private static String key(String modId) {
+        return modId.toLowerCase(Locale.ROOT);
+    }
+}
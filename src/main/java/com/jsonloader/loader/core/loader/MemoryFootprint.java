@@ -0,0 +1,227 @@
+package com.jsonloader.loader.core.loader;
+
+import com.jsonloader.loader.core.texture.TextureIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimativa da memória ocupada por cada mod JSON carregado, comparada com um orçamento.
+ * Para cada mod, separa as definições (resumos de blocos e itens, drops e metadados), as texturas
+ * PNG geradas para o resource pack dinâmico e os modelos e blockstates JSON gerados.
+ * Os tamanhos são estimados para uma JVM de 64 bits com referências comprimidas, sem percorrer
+ * o heap; objetos compartilhados entre mods podem ser contados mais de uma vez.
+ * Os orçamentos vêm de -Djsonloader.memory.modBudgetKb (por mod) e -Djsonloader.memory.budgetMb (total).
+ */
+public final class MemoryFootprint {
+    private static final String MOD_BUDGET_PROPERTY = "jsonloader.memory.modBudgetKb";
+    private static final String TOTAL_BUDGET_PROPERTY = "jsonloader.memory.budgetMb";
+    private static final long DEFAULT_MOD_BUDGET_KB = 4096;
+    private static final long DEFAULT_TOTAL_BUDGET_MB = 256;
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int ARRAY_HEADER = 16;
+    // Objeto String (cabeçalho, referência ao array, hash e flags)
+    private static final int STRING = 24;
+    // ArrayList (cabeçalho, tamanho, modCount e referência ao array)
+    private static final int LIST = 24;
+    // Nó de HashMap (cabeçalho, hash, chave, valor e próximo)
+    private static final int MAP_NODE = 32;
+
+    private MemoryFootprint() {
+    }
+
+    /**
+     * A memória estimada de um mod, em bytes.
+     * @param definitionBytes Resumos de blocos e itens, drops e metadados
+     * @param texturePayloadBytes Texturas PNG no índice do resource pack dinâmico
+     * @param generatedJsonBytes Modelos e blockstates JSON no índice do resource pack dinâmico
+     */
+    public record ModFootprint(
+        String modId,
+        long definitionBytes,
+        long texturePayloadBytes,
+        long generatedJsonBytes
+    ) {
+        /**
+         * Total estimado do mod.
+         */
+        public long totalBytes() {
+            return definitionBytes + texturePayloadBytes + generatedJsonBytes;
+        }
+    }
+
+    /**
+     * A estimativa de uma geração de mods.
+     * @param mods Os mods, do maior para o menor
+     * @param modBudgetBytes O orçamento de cada mod
+     * @param totalBudgetBytes O orçamento de todos os mods juntos
+     */
+    public record Report(long generation, List<ModFootprint> mods, long modBudgetBytes, long totalBudgetBytes) {
+        /**
+         * Total estimado de todos os mods.
+         */
+        public long totalBytes() {
+            long total = 0;
+            for (ModFootprint mod : mods) {
+                total += mod.totalBytes();
+            }
+            return total;
+        }
+
+        /**
+         * Indica se um mod passou do orçamento por mod.
+         */
+        public boolean isOverBudget(ModFootprint mod) {
+            return mod.totalBytes() > modBudgetBytes;
+        }
+
+        /**
+         * Número de mods acima do orçamento por mod.
+         */
+        public int overBudgetCount() {
+            int count = 0;
+            for (ModFootprint mod : mods) {
+                if (isOverBudget(mod)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Estima a memória da geração de mods ativa.
+     */
+    public static Report estimate() {
+        return estimate(JsonModLoader.getCurrentGeneration());
+    }
+
+    /**
+     * Estima a memória de uma geração de mods.
+     */
+    public static Report estimate(ModGeneration generation) {
+        List<ModFootprint> mods = new ArrayList<>();
+        for (LoadedMod mod : generation.mods().mods()) {
+            mods.add(estimate(mod, generation.textures()));
+        }
+        mods.sort(Comparator.comparingLong(ModFootprint::totalBytes).reversed().thenComparing(ModFootprint::modId));
+        return new Report(generation.number(), Collections.unmodifiableList(mods),
+                Math.max(1, Long.getLong(MOD_BUDGET_PROPERTY, DEFAULT_MOD_BUDGET_KB)) * 1024L,
+                Math.max(1, Long.getLong(TOTAL_BUDGET_PROPERTY, DEFAULT_TOTAL_BUDGET_MB)) * 1024L * 1024L);
+    }
+
+    /**
+     * Estima a memória de um mod e dos recursos gerados para ele.
+     */
+    public static ModFootprint estimate(LoadedMod mod, TextureIndex textures) {
+        Sizes sizes = new Sizes();
+        // LoadedMod: onze referências e um int
+        sizes.definitions += align(HEADER + 11 * REFERENCE + 4);
+        sizes.definitions += string(mod.modId()) + string(mod.name()) + string(mod.version()) + string(mod.description())
+                + string(mod.author()) + string(mod.website()) + string(mod.directory()) + string(mod.contentHash());
+        sizes.summaries(mod.blocks());
+        sizes.summaries(mod.items());
+        sizes.drops(mod.drops());
+
+        long payload = 0;
+        long json = 0;
+        for (Map.Entry<String, byte[]> entry : textures.namespace(mod.modId()).entrySet()) {
+            long entryBytes = MAP_NODE + string(entry.getKey()) + byteArray(entry.getValue().length);
+            if (entry.getKey().endsWith(".png")) {
+                payload += entryBytes;
+            } else {
+                json += entryBytes;
+            }
+        }
+        return new ModFootprint(mod.modId(), sizes.definitions, payload, json);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static long byteArray(int length) {
+        return align(ARRAY_HEADER + length);
+    }
+
+    private static long referenceArray(int length) {
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    private static long list(int size) {
+        return LIST + referenceArray(size);
+    }
+
+    // Strings compactas: um byte por caractere quando todos cabem em Latin-1, senão dois
+    private static long string(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING + byteArray(value.length() * bytesPerChar);
+    }
+
+    /**
+     * Acumula os tamanhos das definições de um mod.
+     */
+    private static final class Sizes {
+        private long definitions;
+
+        private void summaries(List<DefinitionSummary> summaries) {
+            if (summaries == null) {
+                return;
+            }
+            definitions += list(summaries.size());
+            for (DefinitionSummary summary : summaries) {
+                // Os tipos são internados e compartilhados entre todos os mods; só o ID é do mod
+                definitions += align(HEADER + 3 * REFERENCE) + string(summary.id());
+            }
+        }
+
+        private void drops(DropsDefinition drops) {
+            if (drops == null) {
+                return;
+            }
+            definitions += align(HEADER + 2 * REFERENCE);
+            if (drops.block_drops() != null) {
+                definitions += list(drops.block_drops().size());
+                for (BlockDrop blockDrop : drops.block_drops()) {
+                    definitions += align(HEADER + 2 * REFERENCE) + string(blockDrop.block_id());
+                    entries(blockDrop.drops());
+                }
+            }
+            if (drops.mob_drops() != null) {
+                definitions += list(drops.mob_drops().size());
+                for (MobDrop mobDrop : drops.mob_drops()) {
+                    definitions += align(HEADER + 2 * REFERENCE) + string(mobDrop.mob_id());
+                    entries(mobDrop.drops());
+                }
+            }
+        }
+
+        private void entries(List<DropEntry> entries) {
+            if (entries == null) {
+                return;
+            }
+            definitions += list(entries.size());
+            for (DropEntry entry : entries) {
+                definitions += align(HEADER + REFERENCE + 4 + 4 + 4 + REFERENCE) + string(entry.item_id());
+                DropCondition conditions = entry.conditions();
+                if (conditions != null) {
+                    definitions += align(HEADER + 1 + 1 + REFERENCE + 4 + 1 + 1 + 4) + string(conditions.min_tool_tier());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.jsonloader.loader.core.loader;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Acesso a mods JSON empacotados em arquivos .zip ou .jar.
+ * O arquivo é aberto como um FileSystem somente leitura, de modo que cada entrada
+ * (mod.json, blocks.json...) é lida diretamente do pacote, sem extração para o disco.
+ */
+public final class ModArchive {
+    private static final String MOD_JSON_FILENAME = "mod.json";
+
+    private ModArchive() {
+    }
+
+    /**
+     * Indica se o caminho é um pacote de mod (.zip ou .jar).
+     */
+    public static boolean isArchive(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return (name.endsWith(".zip") || name.endsWith(".jar")) && Files.isRegularFile(path);
+    }
+
+    /**
+     * Abre um pacote de mod para leitura. O FileSystem retornado deve ser fechado pelo chamador.
+     */
+    public static FileSystem open(Path archive) throws IOException {
+        return FileSystems.newFileSystem(archive);
+    }
+
+    /**
+     * Encontra a pasta do pacote que contém o mod.json.
+     * Aceita o mod.json na raiz do pacote ou dentro de uma única pasta de primeiro nível,
+     * que é o resultado de compactar a própria pasta do mod.
+     * @return A pasta com o conteúdo do mod (a raiz do pacote se nenhuma for encontrada)
+     */
+    public static Path contentRoot(FileSystem archive) throws IOException {
+        Path root = archive.getPath("/");
+        if (Files.exists(root.resolve(MOD_JSON_FILENAME))) {
+            return root;
+        }
+
+        List<Path> topLevel;
+        try (Stream<Path> stream = Files.list(root)) {
+            topLevel = stream.collect(Collectors.toList());
+        }
+        if (topLevel.size() == 1 && Files.isDirectory(topLevel.get(0))
+                && Files.exists(topLevel.get(0).resolve(MOD_JSON_FILENAME))) {
+            return topLevel.get(0);
+        }
+        return root;
+    }
+}
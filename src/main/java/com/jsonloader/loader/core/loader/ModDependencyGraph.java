@@ -0,0 +1,177 @@
+package com.jsonloader.loader.core.loader;
+
+import com.jsonloader.loader.JSONloader;
+
+import java.util.*;
+
+/**
+ * Grafo de dependências entre mods JSON, montado a partir do campo 'dependencies' do mod.json.
+ * Organiza os mods em ondas: cada onda contém apenas mods cujas dependências já foram
+ * carregadas nas ondas anteriores, de modo que os mods de uma mesma onda podem ser lidos
+ * em paralelo. Dependências ausentes e ciclos são detectados antes de qualquer leitura,
+ * e apenas os mods afetados (e quem depende deles) ficam de fora.
+ */
+public final class ModDependencyGraph {
+    // IDs sempre presentes, que podem ser declarados como dependência sem serem mods JSON
+    private static final Set<String> BUILT_IN_IDS = Set.of("minecraft", "forge", JSONloader.MODID);
+
+    private ModDependencyGraph() {
+    }
+
+    /**
+     * Resultado do planejamento.
+     * @param waves Os IDs de mods a carregar, agrupados em ondas e ordenados dentro de cada onda
+     * @param skipped Os mods que não podem ser carregados, com o motivo de cada um
+     */
+    public record LoadPlan(List<List<String>> waves, Map<String, String> skipped) {}
+
+    /**
+     * Monta o plano de carregamento.
+     * @param dependencies As dependências declaradas por cada mod a carregar
+     * @param available IDs de mods que já estão carregados e satisfazem dependências
+     * @return As ondas de carregamento e os mods ignorados
+     */
+    public static LoadPlan plan(Map<String, List<String>> dependencies, Set<String> available) {
+        Map<String, String> skipped = new TreeMap<>();
+        Map<String, Set<String>> edges = new TreeMap<>();
+
+        // Resolve cada dependência: mod do lote, mod já carregado, ID embutido ou ausente
+        for (Map.Entry<String, List<String>> entry : dependencies.entrySet()) {
+            Set<String> internal = new TreeSet<>();
+            List<String> missing = new ArrayList<>();
+            if (entry.getValue() != null) {
+                for (String dependency : entry.getValue()) {
+                    if (dependency == null || dependency.isEmpty()) {
+                        continue;
+                    }
+                    if (dependencies.containsKey(dependency)) {
+                        internal.add(dependency);
+                    } else if (!available.contains(dependency) && !BUILT_IN_IDS.contains(dependency)) {
+                        missing.add(dependency);
+                    }
+                }
+            }
+            edges.put(entry.getKey(), internal);
+            if (!missing.isEmpty()) {
+                skipped.put(entry.getKey(), "dependência ausente: " + String.join(", ", missing));
+            }
+        }
+
+        // Quem depende de um mod ignorado também é ignorado
+        propagateSkipped(edges, skipped);
+
+        // Ordenação topológica em ondas (algoritmo de Kahn)
+        List<List<String>> waves = new ArrayList<>();
+        Set<String> loaded = new HashSet<>();
+        Set<String> pending = new TreeSet<>(edges.keySet());
+        pending.removeAll(skipped.keySet());
+        while (!pending.isEmpty()) {
+            List<String> wave = new ArrayList<>();
+            for (String modId : pending) {
+                if (loaded.containsAll(edges.get(modId))) {
+                    wave.add(modId);
+                }
+            }
+            if (wave.isEmpty()) {
+                break;
+            }
+            waves.add(Collections.unmodifiableList(wave));
+            loaded.addAll(wave);
+            wave.forEach(pending::remove);
+        }
+
+        // O que sobrou está em um ciclo ou depende de um
+        if (!pending.isEmpty()) {
+            for (List<String> cycle : findCycles(pending, edges)) {
+                String description = String.join(" -> ", cycle) + " -> " + cycle.get(0);
+                for (String modId : cycle) {
+                    skipped.put(modId, "ciclo de dependências: " + description);
+                }
+            }
+            propagateSkipped(edges, skipped);
+        }
+
+        return new LoadPlan(Collections.unmodifiableList(waves), Collections.unmodifiableMap(skipped));
+    }
+
+    /**
+     * Marca como ignorados, até estabilizar, os mods que dependem de algum mod ignorado.
+     */
+    private static void propagateSkipped(Map<String, Set<String>> edges, Map<String, String> skipped) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, Set<String>> entry : edges.entrySet()) {
+                if (skipped.containsKey(entry.getKey())) {
+                    continue;
+                }
+                for (String dependency : entry.getValue()) {
+                    if (skipped.containsKey(dependency)) {
+                        skipped.put(entry.getKey(), "depende de " + dependency + ", que não pode ser carregado");
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Encontra os ciclos entre os mods restantes (componentes fortemente conexos de Tarjan).
+     * Cada ciclo é retornado em uma ordem que segue as arestas de dependência.
+     */
+    private static List<List<String>> findCycles(Set<String> nodes, Map<String, Set<String>> edges) {
+        Map<String, Integer> index = new HashMap<>();
+        Map<String, Integer> lowLink = new HashMap<>();
+        Deque<String> stack = new ArrayDeque<>();
+        Set<String> onStack = new HashSet<>();
+        List<List<String>> cycles = new ArrayList<>();
+        int[] counter = {0};
+
+        for (String node : nodes) {
+            if (!index.containsKey(node)) {
+                strongConnect(node, nodes, edges, index, lowLink, stack, onStack, counter, cycles);
+            }
+        }
+        return cycles;
+    }
+
+    private static void strongConnect(String node, Set<String> nodes, Map<String, Set<String>> edges,
+                                      Map<String, Integer> index, Map<String, Integer> lowLink,
+                                      Deque<String> stack, Set<String> onStack, int[] counter,
+                                      List<List<String>> cycles) {
+        index.put(node, counter[0]);
+        lowLink.put(node, counter[0]);
+        counter[0]++;
+        stack.push(node);
+        onStack.add(node);
+
+        for (String dependency : edges.get(node)) {
+            if (!nodes.contains(dependency)) {
+                continue;
+            }
+            if (!index.containsKey(dependency)) {
+                strongConnect(dependency, nodes, edges, index, lowLink, stack, onStack, counter, cycles);
+                lowLink.put(node, Math.min(lowLink.get(node), lowLink.get(dependency)));
+            } else if (onStack.contains(dependency)) {
+                lowLink.put(node, Math.min(lowLink.get(node), index.get(dependency)));
+            }
+        }
+
+        if (lowLink.get(node).equals(index.get(node))) {
+            List<String> component = new ArrayList<>();
+            String member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                component.add(member);
+            } while (!member.equals(node));
+
+            if (component.size() > 1 || edges.get(node).contains(node)) {
+                // A pilha devolve o componente na ordem inversa das arestas
+                Collections.reverse(component);
+                cycles.add(component);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jsonloader.loader.core.loader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Retrato do conteúdo de uma pasta de mod: tamanho e data de modificação de cada
+ * arquivo, além do hash de todo o conteúdo. Usado para descobrir quais mods
+ * mudaram entre dois carregamentos sem precisar ler todos os arquivos.
+ * Para pacotes .zip/.jar, o retrato contém apenas o próprio arquivo do pacote.
+ */
+public record ModFolderManifest(
+    String folderName,
+    Map<String, FileStamp> files,
+    String contentHash
+) {
+    /**
+     * Tamanho e data de modificação de um arquivo.
+     */
+    public record FileStamp(long size, long lastModified) {}
+
+    /**
+     * Lê o estado atual de uma pasta de mod.
+     * Se os tamanhos e datas forem iguais aos do retrato anterior, o hash anterior é
+     * reaproveitado; caso contrário o conteúdo é lido novamente para calcular o hash.
+     * @param modFolder A pasta do mod
+     * @param previous O retrato anterior da mesma pasta, ou null
+     * @return O retrato atual; o hash é null se a pasta não puder ser lida
+     */
+    public static ModFolderManifest scan(Path modFolder, ModFolderManifest previous) {
+        String folderName = modFolder.getFileName().toString();
+        Map<String, FileStamp> files = new TreeMap<>();
+
+        try (Stream<Path> stream = Files.walk(modFolder)) {
+            for (Path file : (Iterable<Path>) stream::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    String relativePath = file.equals(modFolder)
+                            ? file.getFileName().toString()
+                            : modFolder.relativize(file).toString().replace('\\', '/');
+                    files.put(relativePath, new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis()));
+                }
+            }
+        } catch (IOException e) {
+            return new ModFolderManifest(folderName, Collections.emptyMap(), null);
+        }
+
+        String contentHash = previous != null && previous.contentHash() != null && previous.files().equals(files)
+                ? previous.contentHash()
+                : DefinitionCache.computeKey(modFolder);
+        return new ModFolderManifest(folderName, Collections.unmodifiableMap(files), contentHash);
+    }
+
+    /**
+     * Indica se o conteúdo desta pasta é idêntico ao de outro retrato.
+     */
+    public boolean sameContentAs(ModFolderManifest other) {
+        return other != null && contentHash != null && contentHash.equals(other.contentHash());
+    }
+}
@@ -0,0 +1,136 @@
+package com.jsonloader.loader.core.loader;
+
+import com.jsonloader.loader.core.drops.CompiledDropTables;
+import com.jsonloader.loader.core.drops.DropTables;
+import com.jsonloader.loader.core.texture.TextureIndex;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Uma geração completa e imutável dos mods JSON carregados: os mods e seus retratos de pasta,
+ * as tabelas de drops e o índice de texturas do resource pack dinâmico.
+ * Cada carregamento ou recarregamento monta uma geração nova sem tocar na atual, que só é
+ * substituída, de uma só vez, depois que a nova for validada. Mods inalterados são
+ * compartilhados entre gerações, então manter a geração anterior para rollback custa apenas
+ * o que mudou.
+ * @param number Número sequencial da geração (0 = nenhum mod carregado ainda)
+ * @param mods Os mods carregados, com índice por ID
+ * @param modsByFolder Os mods carregados, por nome de pasta ou pacote
+ * @param manifests Os retratos do conteúdo de cada pasta carregada
+ * @param drops As tabelas de drops (drops.json embutido mais os mods JSON)
+ * @param compiledDrops As tabelas de drops compiladas para os eventos, ou null enquanto os
+ *                      registros do jogo não estão prontos (só na geração do carregamento inicial)
+ * @param textures Os recursos gerados para o resource pack dinâmico
+ */
+public record ModGeneration(
+    long number,
+    LoadedModsSnapshot mods,
+    Map<String, LoadedMod> modsByFolder,
+    Map<String, ModFolderManifest> manifests,
+    DropTables drops,
+    CompiledDropTables compiledDrops,
+    TextureIndex textures
+) {
+    // Estado inicial, antes de qualquer carregamento: nem os drops embutidos foram lidos ainda
+    public static final ModGeneration EMPTY = new ModGeneration(0, LoadedModsSnapshot.EMPTY,
+            Collections.emptyMap(), Collections.emptyMap(), DropTables.EMPTY, null, TextureIndex.EMPTY);
+
+    /**
+     * Cria a geração sem mods JSON: só as tabelas do drops.json embutido, como
+     * {@link Builder#build()} as compila. Usada quando a lista de mods é limpa ou
+     * quando a pasta de mods não pode ser lida.
+     * @param compileDrops Se os registros do jogo já permitem compilar as tabelas de drops
+     */
+    static ModGeneration withoutMods(boolean compileDrops) {
+        DropTables drops = DropTables.compile(DefinitionRepository.drops(), List.of());
+        return new ModGeneration(0, LoadedModsSnapshot.EMPTY, Collections.emptyMap(), Collections.emptyMap(),
+                drops, compileDrops ? CompiledDropTables.compile(drops) : null, TextureIndex.EMPTY);
+    }
+
+    /**
+     * Retorna esta geração com as tabelas de drops compiladas, com o mesmo número.
+     * Usado quando os registros do jogo ficam prontos depois do carregamento inicial.
+     */
+    ModGeneration withCompiledDrops() {
+        if (compiledDrops != null) {
+            return this;
+        }
+        return new ModGeneration(number, mods, modsByFolder, manifests, drops, CompiledDropTables.compile(drops), textures);
+    }
+
+    /**
+     * Monta a próxima geração a partir de uma geração base, sem alterá-la.
+     */
+    static final class Builder {
+        private final ModGeneration base;
+        private final Map<String, LoadedMod> modsByFolder;
+        private final Map<String, ModFolderManifest> manifests;
+        private final Map<String, Map<String, byte[]>> textures;
+
+        Builder(ModGeneration base) {
+            this.base = base;
+            this.modsByFolder = new TreeMap<>(base.modsByFolder());
+            this.manifests = new HashMap<>(base.manifests());
+            this.textures = new HashMap<>(base.textures().namespaces());
+        }
+
+        /**
+         * Retorna o mod da pasta na geração em montagem, ou null.
+         */
+        LoadedMod get(String folderName) {
+            return modsByFolder.get(folderName);
+        }
+
+        /**
+         * Retorna os mods da geração em montagem, por nome de pasta.
+         */
+        Map<String, LoadedMod> modsByFolder() {
+            return Collections.unmodifiableMap(modsByFolder);
+        }
+
+        /**
+         * Remove o mod da pasta, com seu retrato e seus recursos.
+         * @return O mod removido, ou null se a pasta não tinha mod carregado
+         */
+        LoadedMod remove(String folderName) {
+            LoadedMod oldMod = modsByFolder.remove(folderName);
+            manifests.remove(folderName);
+            if (oldMod != null) {
+                textures.remove(oldMod.modId());
+            }
+            return oldMod;
+        }
+
+        /**
+         * Adiciona ou substitui o mod da pasta.
+         * @param resources Os recursos do mod para o resource pack dinâmico (mapa imutável)
+         */
+        void put(String folderName, LoadedMod mod, ModFolderManifest manifest, Map<String, byte[]> resources) {
+            remove(folderName);
+            modsByFolder.put(folderName, mod);
+            manifests.put(folderName, manifest);
+            textures.put(mod.modId(), resources);
+        }
+
+        /**
+         * Compila as tabelas de drops e o índice de texturas e cria a geração.
+         * @param compileDrops Se os registros do jogo já permitem compilar as tabelas de drops
+         */
+        ModGeneration build(boolean compileDrops) {
+            Map<String, LoadedMod> mods = Collections.unmodifiableMap(new TreeMap<>(modsByFolder));
+            DropTables drops = DropTables.compile(DefinitionRepository.drops(), mods.values());
+            return new ModGeneration(
+                    base.number() + 1,
+                    LoadedModsSnapshot.of(mods.values()),
+                    mods,
+                    Map.copyOf(manifests),
+                    drops,
+                    compileDrops ? CompiledDropTables.compile(drops) : null,
+                    TextureIndex.of(textures));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jsonloader.loader.core.loader;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Resultado da etapa de leitura de um mod JSON, antes do registro.
+ * Contém apenas dados imutáveis e pode ser produzido em qualquer thread.
+ * @param complete false se algum arquivo de blocos, itens ou drops teve erro e foi tratado como vazio
+ */
+public record ParsedMod(
+    Path source,
+    ModMetadata metadata,
+    List<BlockDefinition> blocks,
+    List<ItemDefinition> items,
+    DropsDefinition drops,
+    boolean complete
+) {
+    /**
+     * Cria o resultado de uma leitura sem erros.
+     */
+    public ParsedMod(Path source, ModMetadata metadata, List<BlockDefinition> blocks, List<ItemDefinition> items,
+                     DropsDefinition drops) {
+        this(source, metadata, blocks, items, drops, true);
+    }
+
+    /**
+     * Retorna o nome da pasta de origem do mod.
+     */
+    public String folderName() {
+        return source.getFileName().toString();
+    }
+
+    /**
+     * Indica se o mod possui algum conteúdo para registrar.
+     */
+    public boolean hasContent() {
+        return !blocks.isEmpty() || !items.isEmpty() || drops != null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jsonloader.loader.core.loader;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resultado da etapa de preparação de um recarregamento incremental: a nova geração de mods,
+ * já montada e validada a partir da geração base.
+ * É produzido fora da thread principal e ativado depois por {@link JsonModLoader#applyReload}.
+ * @param folderNames As pastas verificadas, ou null se todas foram verificadas
+ * @param base A geração a partir da qual a nova foi montada
+ * @param generation A nova geração, ou null se nada mudou ou se a validação falhou
+ * @param failed Os mods com falha
+ * @param rejected Se a nova geração foi descartada porque algum mod já carregado falhou
+ */
+public record PreparedReload(
+    Set<String> folderNames,
+    ModGeneration base,
+    ModGeneration generation,
+    List<String> added,
+    List<String> changed,
+    List<String> removed,
+    List<String> failed,
+    int unchanged,
+    boolean rejected,
+    long startNanos
+) {}
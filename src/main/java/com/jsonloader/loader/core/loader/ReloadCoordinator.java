@@ -0,0 +1,257 @@
+package com.jsonloader.loader.core.loader;
+
+import com.jsonloader.loader.JSONloader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executa os recarregamentos de mods JSON fora da thread principal, um de cada vez.
+ * A leitura e a montagem da nova geração acontecem na thread "JSONloader-Reload"; apenas
+ * a ativação roda no executor da thread principal do servidor. Pedidos feitos enquanto um
+ * recarregamento está em andamento são agrupados em um único recarregamento seguinte, que
+ * verifica a união das pastas pedidas. Se a geração ativa mudar durante a leitura (por
+ * exemplo, um rollback), a ativação é recusada e a leitura é refeita nesta mesma thread.
+ */
+public final class ReloadCoordinator {
+    private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " ReloadCoordinator");
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JSONloader-Reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Protegidos pelo lock da classe
+    private static ReloadJob running;
+    private static ReloadJob queued;
+
+    private ReloadCoordinator() {
+    }
+
+    /**
+     * Pede um recarregamento, sem acompanhar o andamento.
+     * @see #request(Set, Executor, ReloadProgress)
+     */
+    public static ReloadJob request(Set<String> folderNames, Executor mainThreadExecutor) {
+        return request(folderNames, mainThreadExecutor, null);
+    }
+
+    /**
+     * Pede um recarregamento. Se nenhum estiver em andamento, ele começa imediatamente;
+     * caso contrário, o pedido é agrupado no próximo recarregamento.
+     * @param folderNames As pastas a verificar, ou null para verificar todas
+     * @param mainThreadExecutor Executor da thread principal do servidor, onde a nova geração é ativada
+     * @param listener Recebe o andamento da leitura, ou null; é registrado antes do início, então
+     *                 nenhum aviso (nem o {@link ReloadProgress#onStarted}) é perdido
+     * @return O recarregamento que atenderá o pedido (veja {@link ReloadJob#isStarted()})
+     */
+    public static synchronized ReloadJob request(Set<String> folderNames, Executor mainThreadExecutor,
+                                                 ReloadProgress listener) {
+        if (running == null) {
+            running = new ReloadJob(folderNames, mainThreadExecutor);
+            running.addListener(listener);
+            start(running);
+            return running;
+        }
+
+        if (queued == null) {
+            queued = new ReloadJob(folderNames, mainThreadExecutor);
+            LOGGER.info("[Reload] Recarregamento já em andamento; o pedido será atendido pelo próximo");
+        } else {
+            queued.merge(folderNames);
+        }
+        queued.addListener(listener);
+        return queued;
+    }
+
+    /**
+     * Retorna o recarregamento em andamento, ou null.
+     */
+    public static synchronized ReloadJob getRunning() {
+        return running;
+    }
+
+    /**
+     * Descarta os recarregamentos pendentes, por exemplo quando o servidor para.
+     * Um recarregamento cuja leitura já terminou não é mais ativado.
+     */
+    public static void reset() {
+        List<ReloadJob> cancelled = new ArrayList<>(2);
+        synchronized (ReloadCoordinator.class) {
+            if (running != null) {
+                cancelled.add(running);
+            }
+            if (queued != null) {
+                cancelled.add(queued);
+            }
+            running = null;
+            queued = null;
+        }
+        cancelled.forEach(job -> job.result.completeExceptionally(new CancellationException("Servidor parado")));
+    }
+
+    private static void start(ReloadJob job) {
+        job.startNanos = System.nanoTime();
+        job.started = true;
+        // Zera o andamento quando a leitura é refeita sobre uma geração nova
+        job.total = -1;
+        job.parsed = 0;
+        job.failures.clear();
+        CompletableFuture
+                .supplyAsync(() -> JsonModLoader.prepareReload(job.folderNames, job), WORKER)
+                .thenApplyAsync(prepared -> isRunning(job) ? JsonModLoader.applyReload(prepared) : null, job.mainThreadExecutor)
+                .whenComplete((result, error) -> finish(job, result, error));
+    }
+
+    private static synchronized boolean isRunning(ReloadJob job) {
+        return running == job;
+    }
+
+    private static void finish(ReloadJob job, ReloadResult result, Throwable error) {
+        if (error == null && result != null && result.staleBase()) {
+            // A geração base mudou: a mesma leitura é refeita fora da thread principal
+            if (isRunning(job)) {
+                start(job);
+            } else {
+                job.result.completeExceptionally(new CancellationException("Recarregamento descartado"));
+            }
+            return;
+        }
+
+        ReloadJob next = null;
+        synchronized (ReloadCoordinator.class) {
+            // Um reset pode ter descartado este recarregamento enquanto ele rodava
+            if (running == job) {
+                next = queued;
+                queued = null;
+                running = next;
+            }
+        }
+
+        if (error != null) {
+            LOGGER.error("[Reload] Erro durante o recarregamento: {}", error.getMessage());
+            LOGGER.debug("[Reload] Detalhes da exceção:", error);
+            job.result.completeExceptionally(error);
+        } else if (result == null) {
+            job.result.completeExceptionally(new CancellationException("Recarregamento descartado"));
+        } else {
+            job.result.complete(result);
+        }
+
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    /**
+     * Um recarregamento pedido ao coordenador, com o andamento da leitura.
+     * Recebe o andamento do {@link JsonModLoader#prepareReload} e o repassa aos ouvintes.
+     */
+    public static final class ReloadJob implements ReloadProgress {
+        private final Executor mainThreadExecutor;
+        private final CompletableFuture<ReloadResult> result = new CompletableFuture<>();
+        private final List<ReloadProgress> listeners = new CopyOnWriteArrayList<>();
+        private final List<String> failures = new CopyOnWriteArrayList<>();
+        private Set<String> folderNames;
+        private volatile boolean started;
+        private volatile long startNanos;
+        private volatile int total = -1;
+        private volatile int parsed;
+
+        private ReloadJob(Set<String> folderNames, Executor mainThreadExecutor) {
+            this.folderNames = folderNames != null ? new HashSet<>(folderNames) : null;
+            this.mainThreadExecutor = mainThreadExecutor;
+        }
+
+        // Chamado apenas enquanto o recarregamento está na fila, com o lock do coordenador
+        private void merge(Set<String> moreFolders) {
+            if (folderNames == null || moreFolders == null) {
+                folderNames = null;
+            } else {
+                folderNames.addAll(moreFolders);
+            }
+        }
+
+        // Chamado com o lock do coordenador, antes do início do recarregamento
+        private void addListener(ReloadProgress listener) {
+            if (listener != null) {
+                listeners.add(listener);
+            }
+        }
+
+        /**
+         * O resultado, completado depois da ativação na thread principal.
+         */
+        public CompletableFuture<ReloadResult> result() {
+            return result;
+        }
+
+        /**
+         * Indica se o recarregamento já começou; false enquanto ele espera na fila.
+         */
+        public boolean isStarted() {
+            return started;
+        }
+
+        /**
+         * Número de pastas a ler, ou -1 se ainda não é conhecido.
+         */
+        public int total() {
+            return total;
+        }
+
+        /**
+         * Número de pastas lidas até agora.
+         */
+        public int parsed() {
+            return parsed;
+        }
+
+        /**
+         * Pastas cuja leitura falhou até agora.
+         */
+        public List<String> failures() {
+            return Collections.unmodifiableList(failures);
+        }
+
+        /**
+         * Tempo desde o início do recarregamento, em milissegundos.
+         */
+        public long elapsedMillis() {
+            return started ? (System.nanoTime() - startNanos) / 1_000_000L : 0L;
+        }
+
+        @Override
+        public void onStarted(int total) {
+            this.total = total;
+            for (ReloadProgress listener : listeners) {
+                listener.onStarted(total);
+            }
+        }
+
+        @Override
+        public void onModParsed(String folderName, boolean success, int parsed, int total) {
+            if (!success) {
+                failures.add(folderName);
+            }
+            // As leituras terminam em qualquer ordem; mantém o maior valor
+            synchronized (this) {
+                this.parsed = Math.max(this.parsed, parsed);
+            }
+            for (ReloadProgress listener : listeners) {
+                listener.onModParsed(folderName, success, parsed, total);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.jsonloader.loader.core.loader;
+
+/**
+ * Recebe o andamento da preparação de um recarregamento.
+ * Os métodos são chamados nas threads de leitura, possivelmente em paralelo, e não devem bloquear.
+ */
+public interface ReloadProgress {
+    ReloadProgress NONE = new ReloadProgress() {};
+
+    /**
+     * Chamado quando as pastas alteradas são conhecidas, antes da leitura.
+     * @param total Número de pastas novas ou alteradas a ler
+     */
+    default void onStarted(int total) {
+    }
+
+    /**
+     * Chamado a cada pasta lida.
+     * @param success false se a leitura falhou ou algum arquivo teve erro
+     * @param parsed Número de pastas lidas até agora
+     */
+    default void onModParsed(String folderName, boolean success, int parsed, int total) {
+    }
+}
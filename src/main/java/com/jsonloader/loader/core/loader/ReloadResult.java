@@ -0,0 +1,38 @@
+package com.jsonloader.loader.core.loader;
+
+import java.util.List;
+
+/**
+ * Resumo de um recarregamento incremental dos mods JSON.
+ * As listas contêm os IDs dos mods (ou o nome da pasta, quando o ID não é conhecido).
+ * @param rejected Se o recarregamento foi descartado porque algum mod carregado falhou;
+ *                 nesse caso a geração anterior continua ativa, sem nenhuma alteração
+ * @param generation O número da geração ativa depois do recarregamento
+ * @param staleBase Se a geração ativa mudou durante a preparação (rollback ou outro recarregamento);
+ *                  nada foi ativado e a preparação precisa ser refeita fora da thread principal
+ */
+public record ReloadResult(
+    List<String> added,
+    List<String> changed,
+    List<String> removed,
+    List<String> failed,
+    int unchanged,
+    long durationMillis,
+    boolean rejected,
+    long generation,
+    boolean staleBase
+) {
+    /**
+     * Resultado de uma preparação feita sobre uma geração que não está mais ativa.
+     */
+    public static ReloadResult stale(long generation) {
+        return new ReloadResult(List.of(), List.of(), List.of(), List.of(), 0, 0L, false, generation, true);
+    }
+
+    /**
+     * Indica se algum mod foi adicionado, alterado ou removido.
+     */
+    public boolean hasChanges() {
+        return !added.isEmpty() || !changed.isEmpty() || !removed.isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.jsonloader.loader.core.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador que só cresce, com no máximo um rótulo. Cada valor do rótulo tem o seu
+ * {@link LongAdder}, então threads diferentes incrementam sem disputar o mesmo campo.
+ */
+public final class Counter implements Metric {
+    private static final String NO_LABEL = "";
+
+    private final String name;
+    private final String help;
+    private final String labelName;
+    private final Map<String, LongAdder> values = new ConcurrentHashMap<>();
+
+    Counter(String name, String help, String labelName) {
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+        if (labelName == null) {
+            values.put(NO_LABEL, new LongAdder());
+        }
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Incrementa o contador sem rótulo.
+     */
+    public void inc() {
+        add(1);
+    }
+
+    /**
+     * Soma um valor ao contador sem rótulo.
+     */
+    public void add(long amount) {
+        values.get(NO_LABEL).add(amount);
+    }
+
+    /**
+     * Incrementa o contador de um valor do rótulo.
+     */
+    public void inc(String labelValue) {
+        add(labelValue, 1);
+    }
+
+    /**
+     * Soma um valor ao contador de um valor do rótulo.
+     */
+    public void add(String labelValue, long amount) {
+        LongAdder adder = values.get(labelValue);
+        if (adder == null) {
+            adder = values.computeIfAbsent(labelValue, key -> new LongAdder());
+        }
+        adder.add(amount);
+    }
+
+    /**
+     * Retorna o valor atual de um valor do rótulo (ou do contador sem rótulo, com "").
+     */
+    public long get(String labelValue) {
+        LongAdder adder = values.get(labelValue);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Override
+    public void write(StringBuilder out) {
+        Metric.writeHeader(out, name, help, "counter");
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(values).entrySet()) {
+            Metric.writeSample(out, name, labelName, entry.getKey(), entry.getValue().sum());
+        }
+    }
+}
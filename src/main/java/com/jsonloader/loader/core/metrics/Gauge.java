@@ -0,0 +1,36 @@
+package com.jsonloader.loader.core.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Medida calculada no momento da exportação, com no máximo um rótulo.
+ * Não guarda estado: o valor vem de uma função que lê o estado atual do carregador.
+ */
+public final class Gauge implements Metric {
+    private final String name;
+    private final String help;
+    private final String labelName;
+    private final Supplier<Map<String, ? extends Number>> values;
+
+    Gauge(String name, String help, String labelName, Supplier<Map<String, ? extends Number>> values) {
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+        this.values = values;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void write(StringBuilder out) {
+        Metric.writeHeader(out, name, help, "gauge");
+        for (Map.Entry<String, ? extends Number> entry : new TreeMap<>(values.get()).entrySet()) {
+            Metric.writeSample(out, name, labelName, entry.getKey(), entry.getValue().doubleValue());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jsonloader.loader.core.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma com limites fixos, com no máximo um rótulo. Cada faixa é um {@link LongAdder};
+ * as contagens acumuladas que o Prometheus espera são calculadas só na exportação.
+ */
+public final class Histogram implements Metric {
+    private static final String NO_LABEL = "";
+
+    private final String name;
+    private final String help;
+    private final String labelName;
+    private final double[] bounds;
+    private final Map<String, Buckets> values = new ConcurrentHashMap<>();
+
+    Histogram(String name, String help, String labelName, double... bounds) {
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+        this.bounds = bounds.clone();
+        if (labelName == null) {
+            values.put(NO_LABEL, new Buckets(this.bounds.length));
+        }
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Registra uma observação no histograma sem rótulo.
+     */
+    public void observe(double value) {
+        values.get(NO_LABEL).observe(bounds, value);
+    }
+
+    /**
+     * Registra uma observação para um valor do rótulo.
+     */
+    public void observe(String labelValue, double value) {
+        Buckets buckets = values.get(labelValue);
+        if (buckets == null) {
+            buckets = values.computeIfAbsent(labelValue, key -> new Buckets(bounds.length));
+        }
+        buckets.observe(bounds, value);
+    }
+
+    /**
+     * Registra a duração desde {@code startNanos}, em segundos, para um valor do rótulo.
+     */
+    public void observeNanosSince(String labelValue, long startNanos) {
+        observe(labelValue, (System.nanoTime() - startNanos) / 1e9);
+    }
+
+    @Override
+    public void write(StringBuilder out) {
+        Metric.writeHeader(out, name, help, "histogram");
+        for (Map.Entry<String, Buckets> entry : new TreeMap<>(values).entrySet()) {
+            String labels = labelName != null ? labelName + "=\"" + Metric.escapeLabel(entry.getKey()) + "\"," : "";
+            Buckets buckets = entry.getValue();
+            long cumulative = 0;
+            for (int i = 0; i <= bounds.length; i++) {
+                cumulative += buckets.counts[i].sum();
+                String bound = i < bounds.length ? Metric.formatValue(bounds[i]) : "+Inf";
+                out.append(name).append("_bucket{").append(labels).append("le=\"").append(bound).append("\"} ")
+                        .append(cumulative).append('\n');
+            }
+            String suffix = labelName != null ? "{" + labels.substring(0, labels.length() - 1) + "}" : "";
+            out.append(name).append("_sum").append(suffix).append(' ').append(Metric.formatValue(buckets.sum.sum())).append('\n');
+            out.append(name).append("_count").append(suffix).append(' ').append(cumulative).append('\n');
+        }
+    }
+
+    private static final class Buckets {
+        // Uma faixa por limite, mais a faixa +Inf
+        private final LongAdder[] counts;
+        private final DoubleAdder sum = new DoubleAdder();
+
+        private Buckets(int bounds) {
+            counts = new LongAdder[bounds + 1];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        private void observe(double[] bounds, double value) {
+            int index = 0;
+            while (index < bounds.length && value > bounds[index]) {
+                index++;
+            }
+            counts[index].increment();
+            sum.add(value);
+        }
+    }
+}
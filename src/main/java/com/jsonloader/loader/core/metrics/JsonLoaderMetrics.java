@@ -0,0 +1,101 @@
+package com.jsonloader.loader.core.metrics;
+
+import com.jsonloader.loader.core.init.PropertyTemplates;
+import com.jsonloader.loader.core.loader.JsonModLoader;
+import com.jsonloader.loader.core.loader.LoadedMod;
+import com.jsonloader.loader.core.loader.ModGeneration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * As métricas do JSONloader. Contadores e histogramas são atualizados nos caminhos
+ * instrumentados (recarregamento, drops e resource pack dinâmico); as medidas são
+ * calculadas a partir da geração de mods ativa no momento da exportação.
+ */
+public final class JsonLoaderMetrics {
+    public static final String RELOAD_APPLIED = "applied";
+    public static final String RELOAD_REJECTED = "rejected";
+    public static final String RELOAD_UNCHANGED = "unchanged";
+
+    public static final String SOURCE_MEMORY = "memory";
+    public static final String SOURCE_DISK = "disk";
+    public static final String SOURCE_MISS = "miss";
+
+    public static final Counter RELOADS = MetricsRegistry.counter("jsonloader_reloads_total",
+            "Incremental reloads by result (applied, rejected or unchanged)", "result");
+    public static final Histogram RELOAD_DURATION = MetricsRegistry.histogram("jsonloader_reload_duration_seconds",
+            "Duration of incremental reloads, from preparation to activation", null,
+            0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30);
+
+    public static final Histogram DROP_HANDLER_DURATION = MetricsRegistry.histogram("jsonloader_drop_handler_duration_seconds",
+            "Time spent in the block break and entity drop handlers", "kind",
+            0.000001, 0.000005, 0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01);
+    public static final Counter DROPS_EMITTED = MetricsRegistry.counter("jsonloader_drops_emitted_total",
+            "Items produced by JSON drop tables, by item id", "item");
+
+    public static final Counter RESOURCE_LOOKUPS = MetricsRegistry.counter("jsonloader_resource_lookups_total",
+            "Dynamic resource pack lookups by source (memory, disk or miss)", "source");
+    public static final Counter RESOURCE_BYTES_SERVED = MetricsRegistry.counter("jsonloader_resource_bytes_served_total",
+            "Bytes served by the dynamic resource pack");
+
+    static {
+        MetricsRegistry.gauge("jsonloader_generation", "Number of the active mod generation",
+                () -> JsonModLoader.getCurrentGeneration().number());
+        MetricsRegistry.gauge("jsonloader_mods_loaded", "JSON mods in the active generation",
+                () -> JsonModLoader.getCurrentGeneration().mods().mods().size());
+        MetricsRegistry.gauge("jsonloader_definitions", "Definitions in the active generation, by type",
+                "type", JsonLoaderMetrics::definitionCounts);
+        MetricsRegistry.gauge("jsonloader_resource_pack_entries", "Entries in the dynamic resource pack index",
+                () -> JsonModLoader.getCurrentGeneration().textures().size());
+        MetricsRegistry.gauge("jsonloader_resource_cache_hit_ratio",
+                "Share of dynamic resource pack lookups served from memory or disk (NaN before the first lookup)",
+                JsonLoaderMetrics::resourceHitRatio);
+        MetricsRegistry.gauge("jsonloader_property_templates", "Distinct block and food properties templates, by kind",
+                "kind", () -> propertyStats(PropertyTemplates.Stats::templates));
+        MetricsRegistry.gauge("jsonloader_property_dedup_ratio",
+                "Share of definitions that reused an existing properties template, by kind",
+                "kind", () -> propertyStats(PropertyTemplates.Stats::dedupRatio));
+    }
+
+    private JsonLoaderMetrics() {
+    }
+
+    /**
+     * Garante que as métricas estejam registradas.
+     */
+    static void init() {
+        // O registro acontece na inicialização da classe
+    }
+
+    private static Map<String, Integer> definitionCounts() {
+        ModGeneration generation = JsonModLoader.getCurrentGeneration();
+        int blocks = 0;
+        int items = 0;
+        for (LoadedMod mod : generation.mods().mods()) {
+            blocks += mod.blocksCount();
+            items += mod.itemsCount();
+        }
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("block", blocks);
+        counts.put("item", items);
+        counts.put("block_drop", generation.drops().blockDrops().size());
+        counts.put("mob_drop", generation.drops().mobDrops().size());
+        return counts;
+    }
+
+    private static Map<String, Number> propertyStats(Function<PropertyTemplates.Stats, Number> value) {
+        Map<String, Number> values = new LinkedHashMap<>();
+        for (PropertyTemplates.Stats stats : PropertyTemplates.getStats()) {
+            values.put(stats.kind(), value.apply(stats));
+        }
+        return values;
+    }
+
+    private static double resourceHitRatio() {
+        long hits = RESOURCE_LOOKUPS.get(SOURCE_MEMORY) + RESOURCE_LOOKUPS.get(SOURCE_DISK);
+        long total = hits + RESOURCE_LOOKUPS.get(SOURCE_MISS);
+        return total > 0 ? (double) hits / total : Double.NaN;
+    }
+}
@@ -0,0 +1,58 @@
+package com.jsonloader.loader.core.metrics;
+
+/**
+ * Uma métrica registrada no {@link MetricsRegistry}, exportada no formato de texto do Prometheus.
+ */
+public interface Metric {
+    /**
+     * O nome da métrica no Prometheus (por exemplo, jsonloader_mods_loaded).
+     */
+    String name();
+
+    /**
+     * Escreve as linhas HELP, TYPE e as amostras da métrica.
+     */
+    void write(StringBuilder out);
+
+    /**
+     * Escreve o cabeçalho de uma métrica.
+     */
+    static void writeHeader(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Escreve uma amostra. O rótulo é omitido quando {@code labelName} é null.
+     */
+    static void writeSample(StringBuilder out, String name, String labelName, String labelValue, double value) {
+        out.append(name);
+        if (labelName != null) {
+            out.append('{').append(labelName).append("=\"").append(escapeLabel(labelValue)).append("\"}");
+        }
+        out.append(' ').append(formatValue(value)).append('\n');
+    }
+
+    /**
+     * Escapa um valor de rótulo (barra invertida, aspas e quebra de linha).
+     */
+    static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Formata um valor como o Prometheus espera: inteiros sem casas decimais, +Inf, -Inf e NaN.
+     */
+    static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
@@ -0,0 +1,145 @@
+package com.jsonloader.loader.core.metrics;
+
+import com.jsonloader.loader.JSONloader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exporta as métricas no formato de texto do Prometheus enquanto o servidor está rodando:
+ * em um arquivo reescrito periodicamente (-Djsonloader.metrics.file, no formato do
+ * textfile collector do node_exporter) e/ou em um endpoint HTTP que só aceita conexões
+ * locais (-Djsonloader.metrics.port, em http://127.0.0.1:porta/metrics).
+ * Sem nenhuma das duas propriedades, nada é exportado; as métricas continuam sendo contadas.
+ */
+public final class MetricsExporter {
+    private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " MetricsExporter");
+    private static final String FILE_PROPERTY = "jsonloader.metrics.file";
+    private static final String PORT_PROPERTY = "jsonloader.metrics.port";
+    private static final String INTERVAL_PROPERTY = "jsonloader.metrics.intervalSeconds";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static ScheduledExecutorService fileWriter;
+    private static HttpServer httpServer;
+    private static ExecutorService httpExecutor;
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Indica se alguma exportação está configurada nas propriedades do sistema.
+     */
+    public static boolean isEnabled() {
+        return System.getProperty(FILE_PROPERTY) != null || Integer.getInteger(PORT_PROPERTY, 0) > 0;
+    }
+
+    /**
+     * Inicia as exportações configuradas. Não faz nada se elas já estiverem rodando.
+     */
+    public static synchronized void start() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file != null && fileWriter == null) {
+            Path target = Paths.get(file);
+            long interval = Math.max(1, Long.getLong(INTERVAL_PROPERTY, 15));
+            fileWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "JSONloader-Metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            fileWriter.scheduleWithFixedDelay(() -> writeFile(target), 0, interval, TimeUnit.SECONDS);
+            LOGGER.info("[Métricas] Gravando métricas em {} a cada {} s", target.toAbsolutePath(), interval);
+        }
+
+        int port = Integer.getInteger(PORT_PROPERTY, 0);
+        if (port > 0 && httpServer == null) {
+            try {
+                httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+                httpServer.createContext("/metrics", MetricsExporter::handle);
+                httpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "JSONloader-Metrics-HTTP");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                httpServer.setExecutor(httpExecutor);
+                httpServer.start();
+                LOGGER.info("[Métricas] Métricas disponíveis em http://{}:{}/metrics",
+                        InetAddress.getLoopbackAddress().getHostAddress(), port);
+            } catch (IOException e) {
+                httpServer = null;
+                if (httpExecutor != null) {
+                    httpExecutor.shutdownNow();
+                    httpExecutor = null;
+                }
+                LOGGER.error("[Métricas] Não foi possível abrir a porta {}: {}", port, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Para as exportações, gravando o arquivo uma última vez.
+     */
+    public static synchronized void stop() {
+        if (fileWriter != null) {
+            fileWriter.shutdownNow();
+            fileWriter = null;
+            writeFile(Paths.get(System.getProperty(FILE_PROPERTY)));
+        }
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpExecutor.shutdownNow();
+            httpServer = null;
+            httpExecutor = null;
+        }
+    }
+
+    // Grava em um arquivo temporário e renomeia, para que o coletor nunca leia um arquivo pela metade
+    private static void writeFile(Path target) {
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.writeString(temp, MetricsRegistry.scrape(), StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("[Métricas] Não foi possível gravar as métricas em {}: {}", target, e.getMessage());
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = MetricsRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
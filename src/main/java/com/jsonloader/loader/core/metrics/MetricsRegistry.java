@@ -0,0 +1,76 @@
+package com.jsonloader.loader.core.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Registro das métricas do JSONloader e geração do texto no formato do Prometheus.
+ * As métricas são criadas uma vez, em {@link JsonLoaderMetrics}, e exportadas na ordem de registro.
+ */
+public final class MetricsRegistry {
+    private static final List<Metric> METRICS = new CopyOnWriteArrayList<>();
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Cria e registra um contador sem rótulo. O nome deve terminar em _total.
+     */
+    public static Counter counter(String name, String help) {
+        return register(new Counter(name, help, null));
+    }
+
+    /**
+     * Cria e registra um contador com um rótulo. O nome deve terminar em _total.
+     */
+    public static Counter counter(String name, String help, String labelName) {
+        return register(new Counter(name, help, labelName));
+    }
+
+    /**
+     * Cria e registra uma medida sem rótulo.
+     */
+    public static Gauge gauge(String name, String help, DoubleSupplier value) {
+        return register(new Gauge(name, help, null, () -> Map.of("", value.getAsDouble())));
+    }
+
+    /**
+     * Cria e registra uma medida com um rótulo, cujos valores vêm de um mapa calculado na exportação.
+     */
+    public static Gauge gauge(String name, String help, String labelName, Supplier<Map<String, ? extends Number>> values) {
+        return register(new Gauge(name, help, labelName, values));
+    }
+
+    /**
+     * Cria e registra um histograma com os limites dados, em ordem crescente.
+     * @param labelName O rótulo, ou null para um histograma sem rótulo
+     */
+    public static Histogram histogram(String name, String help, String labelName, double... bounds) {
+        return register(new Histogram(name, help, labelName, bounds));
+    }
+
+    /**
+     * Gera o texto de todas as métricas no formato de exposição do Prometheus (versão 0.0.4).
+     */
+    public static String scrape() {
+        JsonLoaderMetrics.init();
+        StringBuilder out = new StringBuilder(4096);
+        for (Metric metric : METRICS) {
+            metric.write(out);
+        }
+        return out.toString();
+    }
+
+    private static <T extends Metric> T register(T metric) {
+        for (Metric existing : METRICS) {
+            if (existing.name().equals(metric.name())) {
+                throw new IllegalArgumentException("Métrica já registrada: " + metric.name());
+            }
+        }
+        METRICS.add(metric);
+        return metric;
+    }
+}
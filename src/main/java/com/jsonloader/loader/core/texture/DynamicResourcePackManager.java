@@ -2,7 +2,12 @@ package com.jsonloader.loader.core.texture;
 
 import com.google.common.collect.ImmutableMap;
 import com.jsonloader.loader.JSONloader;
-import com.jsonloader.loader.core.loader.LoadedMod;
+import com.jsonloader.loader.core.jfr.ResourceLookupEvent;
+import com.jsonloader.loader.core.jfr.TextureProcessingEvent;
+import com.jsonloader.loader.core.loader.JsonModLoader;
+import com.jsonloader.loader.core.loader.BlockDefinition;
+import com.jsonloader.loader.core.loader.ItemDefinition;
+import com.jsonloader.loader.core.metrics.JsonLoaderMetrics;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.AbstractPackResources;
 import net.minecraft.server.packs.PackResources;
@@ -27,20 +32,31 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Gerenciador de resource packs dinâmicos para texturas de mods JSON.
  * Esta classe cria e registra um resource pack virtual que contém todas as texturas
- * extraídas dos mods JSON carregados.
+ * extraídas dos mods JSON carregados. Os recursos em memória vêm do {@link TextureIndex}
+ * da geração atual de mods; a pasta temporária é uma cópia em disco, sincronizada a cada troca de geração.
  */
 @Mod.EventBusSubscriber(modid = JSONloader.MODID, bus = Mod.EventBusSubscriber.Bus.MOD)
 public class DynamicResourcePackManager implements ResourceManagerReloadListener {
     private static final Logger LOGGER = LogManager.getLogger(JSONloader.MODID + " ResourcePack");
     private static final String PACK_ID = "jsonloader:dynamic_resources";
     private static final Path TEMP_DIR = new File(System.getProperty("java.io.tmpdir"), "jsonloader_resources").toPath();
-    private static final Map<String, Map<String, byte[]>> TEXTURE_CACHE = new HashMap<>();
+
+    // Grava a pasta temporária fora da thread principal; uma thread só, para as
+    // sincronizações serem aplicadas na mesma ordem das trocas de geração
+    private static final ExecutorService TEMP_FILES_WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JSONloader-ResourceSync");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Inicializa o gerenciador de resource pack dinâmico.
@@ -97,11 +113,18 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
 
     /**
      * Implementação de PackResources para o resource pack dinâmico.
+     * Visível no pacote para os benchmarks.
      */
-    private static class DynamicPackResources extends AbstractPackResources {
+    static class DynamicPackResources extends AbstractPackResources {
+        private final Supplier<TextureIndex> index;
         
         public DynamicPackResources(String packId) {
+            this(packId, () -> JsonModLoader.getCurrentGeneration().textures());
+        }
+        
+        DynamicPackResources(String packId, Supplier<TextureIndex> index) {
             super(packId, true); // true = é um pack obrigatório
+            this.index = index;
         }
         
         @Nullable
@@ -124,26 +147,49 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
             
             String namespace = location.getNamespace();
             String path = location.getPath();
+            ResourceLookupEvent event = new ResourceLookupEvent();
+            event.begin();
             
-            // Verifica se a textura está no cache
-            if (TEXTURE_CACHE.containsKey(namespace) && TEXTURE_CACHE.get(namespace).containsKey(path)) {
-                byte[] data = TEXTURE_CACHE.get(namespace).get(path);
-                return () -> new ByteArrayInputStream(data);
+            // Verifica se o recurso está no índice da geração atual
+            byte[] data = index.get().get(namespace, path);
+            if (data != null) {
+                commitLookup(event, namespace, path, ResourceLookupEvent.MEMORY);
+                JsonLoaderMetrics.RESOURCE_LOOKUPS.inc(JsonLoaderMetrics.SOURCE_MEMORY);
+                return () -> {
+                    JsonLoaderMetrics.RESOURCE_BYTES_SERVED.add(data.length);
+                    return new ByteArrayInputStream(data);
+                };
             }
             
             // Tenta carregar do sistema de arquivos temporário
             Path filePath = TEMP_DIR.resolve(namespace).resolve(path);
             if (Files.exists(filePath)) {
+                commitLookup(event, namespace, path, ResourceLookupEvent.DISK);
+                JsonLoaderMetrics.RESOURCE_LOOKUPS.inc(JsonLoaderMetrics.SOURCE_DISK);
                 try {
-                    return () -> Files.newInputStream(filePath);
+                    return () -> {
+                        JsonLoaderMetrics.RESOURCE_BYTES_SERVED.add(Files.size(filePath));
+                        return Files.newInputStream(filePath);
+                    };
                 } catch (Exception e) {
                     LOGGER.error("[ResourcePack] Erro ao abrir arquivo {}: {}", filePath, e.getMessage());
                     return null;
                 }
             }
             
+            commitLookup(event, namespace, path, ResourceLookupEvent.MISS);
+            JsonLoaderMetrics.RESOURCE_LOOKUPS.inc(JsonLoaderMetrics.SOURCE_MISS);
             return null;
         }
+        
+        private static void commitLookup(ResourceLookupEvent event, String namespace, String path, String source) {
+            if (event.shouldCommit()) {
+                event.namespace = namespace;
+                event.path = path;
+                event.source = source;
+                event.commit();
+            }
+        }
 
         @Override
         public void listResources(PackType packType, String namespace, String path, ResourceOutput resourceOutput) {
@@ -151,14 +197,12 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
                 return;
             }
             
-            // Lista recursos do cache
-            if (TEXTURE_CACHE.containsKey(namespace)) {
-                for (String resourcePath : TEXTURE_CACHE.get(namespace).keySet()) {
-                    if (resourcePath.startsWith(path)) {
-                        ResourceLocation location = ResourceLocation.parse(namespace + ":" + resourcePath);
-                        resourceOutput.accept(location, 
-                            () -> new ByteArrayInputStream(TEXTURE_CACHE.get(namespace).get(resourcePath)));
-                    }
+            // Lista recursos do índice da geração atual
+            for (Map.Entry<String, byte[]> resource : index.get().namespace(namespace).entrySet()) {
+                if (resource.getKey().startsWith(path)) {
+                    ResourceLocation location = ResourceLocation.parse(namespace + ":" + resource.getKey());
+                    byte[] data = resource.getValue();
+                    resourceOutput.accept(location, () -> new ByteArrayInputStream(data));
                 }
             }
             
@@ -195,7 +239,7 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
                 return Collections.emptySet();
             }
             
-            Set<String> namespaces = new HashSet<>(TEXTURE_CACHE.keySet());
+            Set<String> namespaces = new HashSet<>(index.get().namespaceIds());
             
             // Adiciona namespaces do sistema de arquivos temporário
             try {
@@ -218,19 +262,26 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
     }
 
     /**
-     * Processa as texturas de um mod carregado e as adiciona ao resource pack dinâmico.
-     * @param mod O mod carregado
+     * Processa as texturas de um mod e gera os recursos dele para o resource pack dinâmico.
+     * Não altera o resource pack: os recursos passam a valer quando a geração de mods que os
+     * contém for ativada.
+     * @param modId O ID do mod
+     * @param blocks As definições completas dos blocos do mod
+     * @param items As definições completas dos itens do mod
+     * @return Os recursos do mod (texturas, modelos e blockstates), por caminho
      */
-    public static void processModTextures(LoadedMod mod) {
-        String modId = mod.modId();
+    public static Map<String, byte[]> buildModResources(String modId, List<BlockDefinition> blocks, List<ItemDefinition> items) {
+        Map<String, byte[]> resources = new HashMap<>();
+        TextureProcessingEvent event = new TextureProcessingEvent();
+        event.begin();
         LOGGER.info("[ResourcePack] Processando texturas para o mod: {}", modId);
         
         // Processa texturas de blocos
-        if (mod.blocks() != null && !mod.blocks().isEmpty()) {
-            mod.blocks().forEach(block -> {
+        if (blocks != null && !blocks.isEmpty()) {
+            blocks.forEach(block -> {
                 try {
                     if (block.texture() != null && block.texture().value() != null && !block.texture().value().isEmpty()) {
-                        processBlockTexture(modId, block.id(), block.texture().type(), block.texture().value());
+                        processBlockTexture(resources, modId, block.id(), block.texture().type(), block.texture().value());
                         LOGGER.info("[ResourcePack] Textura do bloco {} processada com sucesso", block.id());
                     }
                 } catch (Exception e) {
@@ -241,11 +292,11 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
         }
         
         // Processa texturas de itens
-        if (mod.items() != null && !mod.items().isEmpty()) {
-            mod.items().forEach(item -> {
+        if (items != null && !items.isEmpty()) {
+            items.forEach(item -> {
                 try {
                     if (item.texture() != null && item.texture().value() != null && !item.texture().value().isEmpty()) {
-                        processItemTexture(modId, item.id(), item.texture().type(), item.texture().value());
+                        processItemTexture(resources, modId, item.id(), item.texture().type(), item.texture().value());
                         LOGGER.info("[ResourcePack] Textura do item {} processada com sucesso", item.id());
                     }
                 } catch (Exception e) {
@@ -256,16 +307,24 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
         }
         
         LOGGER.info("[ResourcePack] Texturas processadas com sucesso para o mod: {}", modId);
+        if (event.shouldCommit()) {
+            event.modId = modId;
+            event.resources = resources.size();
+            event.bytes = resources.values().stream().mapToLong(bytes -> bytes.length).sum();
+            event.commit();
+        }
+        return Collections.unmodifiableMap(resources);
     }
 
     /**
-     * Processa a textura de um bloco e a adiciona ao resource pack dinâmico.
+     * Processa a textura de um bloco e adiciona os recursos gerados ao mapa.
+     * @param resources Os recursos do mod
      * @param modId O ID do mod
      * @param blockId O ID do bloco
      * @param textureType O tipo da textura (base64, url, local)
      * @param textureValue O valor da textura (base64, url, caminho local)
      */
-    private static void processBlockTexture(String modId, String blockId, String textureType, String textureValue) {
+    private static void processBlockTexture(Map<String, byte[]> resources, String modId, String blockId, String textureType, String textureValue) {
         // Corrigido: Remover prefixo do mod_id do blockId para evitar duplicação
         String cleanBlockId = blockId.startsWith(modId + "_") ? blockId.substring(modId.length() + 1) : blockId;
         
@@ -273,26 +332,20 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
             // Decodifica a textura Base64
             byte[] textureData = Base64.getDecoder().decode(textureValue);
             
-            // Adiciona a textura ao cache
-            addTextureToCache(modId, "textures/block/" + cleanBlockId + ".png", textureData);
-            
-            // Salva a textura no sistema de arquivos temporário
-            saveTextureToFile(modId, "textures/block/" + cleanBlockId + ".png", textureData);
+            // Adiciona a textura aos recursos do mod
+            resources.put("textures/block/" + cleanBlockId + ".png", textureData);
             
             // Gera e adiciona os arquivos de modelo e blockstate
-            generateBlockModelFiles(modId, cleanBlockId);
+            generateBlockModelFiles(resources, modId, cleanBlockId);
         } else if ("url".equalsIgnoreCase(textureType)) {
             // Baixa a textura da URL
             byte[] textureData = downloadTexture(textureValue);
             
-            // Adiciona a textura ao cache
-            addTextureToCache(modId, "textures/block/" + cleanBlockId + ".png", textureData);
-            
-            // Salva a textura no sistema de arquivos temporário
-            saveTextureToFile(modId, "textures/block/" + cleanBlockId + ".png", textureData);
+            // Adiciona a textura aos recursos do mod
+            resources.put("textures/block/" + cleanBlockId + ".png", textureData);
             
             // Gera e adiciona os arquivos de modelo e blockstate
-            generateBlockModelFiles(modId, cleanBlockId);
+            generateBlockModelFiles(resources, modId, cleanBlockId);
         } else if ("local".equalsIgnoreCase(textureType)) {
             // Não é necessário processar texturas locais, pois elas já estão no resource pack do mod
             LOGGER.debug("[ResourcePack] Textura local para o bloco {}: {}", cleanBlockId, textureValue);
@@ -302,13 +355,14 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
     }
 
     /**
-     * Processa a textura de um item e a adiciona ao resource pack dinâmico.
+     * Processa a textura de um item e adiciona os recursos gerados ao mapa.
+     * @param resources Os recursos do mod
      * @param modId O ID do mod
      * @param itemId O ID do item
      * @param textureType O tipo da textura (base64, url, local)
      * @param textureValue O valor da textura (base64, url, caminho local)
      */
-    private static void processItemTexture(String modId, String itemId, String textureType, String textureValue) {
+    private static void processItemTexture(Map<String, byte[]> resources, String modId, String itemId, String textureType, String textureValue) {
         // Corrigido: Remover prefixo do mod_id do itemId para evitar duplicação
         String cleanItemId = itemId.startsWith(modId + "_") ? itemId.substring(modId.length() + 1) : itemId;
         
@@ -316,26 +370,20 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
             // Decodifica a textura Base64
             byte[] textureData = Base64.getDecoder().decode(textureValue);
             
-            // Adiciona a textura ao cache
-            addTextureToCache(modId, "textures/item/" + cleanItemId + ".png", textureData);
-            
-            // Salva a textura no sistema de arquivos temporário
-            saveTextureToFile(modId, "textures/item/" + cleanItemId + ".png", textureData);
+            // Adiciona a textura aos recursos do mod
+            resources.put("textures/item/" + cleanItemId + ".png", textureData);
             
             // Gera e adiciona o arquivo de modelo do item
-            generateItemModelFile(modId, cleanItemId);
+            generateItemModelFile(resources, modId, cleanItemId);
         } else if ("url".equalsIgnoreCase(textureType)) {
             // Baixa a textura da URL
             byte[] textureData = downloadTexture(textureValue);
             
-            // Adiciona a textura ao cache
-            addTextureToCache(modId, "textures/item/" + cleanItemId + ".png", textureData);
-            
-            // Salva a textura no sistema de arquivos temporário
-            saveTextureToFile(modId, "textures/item/" + cleanItemId + ".png", textureData);
+            // Adiciona a textura aos recursos do mod
+            resources.put("textures/item/" + cleanItemId + ".png", textureData);
             
             // Gera e adiciona o arquivo de modelo do item
-            generateItemModelFile(modId, cleanItemId);
+            generateItemModelFile(resources, modId, cleanItemId);
         } else if ("local".equalsIgnoreCase(textureType)) {
             // Não é necessário processar texturas locais, pois elas já estão no resource pack do mod
             LOGGER.debug("[ResourcePack] Textura local para o item {}: {}", cleanItemId, textureValue);
@@ -344,16 +392,6 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
         }
     }
 
-    /**
-     * Adiciona uma textura ao cache.
-     * @param namespace O namespace da textura (geralmente o ID do mod)
-     * @param path O caminho da textura
-     * @param data Os dados da textura
-     */
-    private static void addTextureToCache(String namespace, String path, byte[] data) {
-        TEXTURE_CACHE.computeIfAbsent(namespace, k -> new HashMap<>()).put(path, data);
-    }
-
     /**
      * Salva uma textura no sistema de arquivos temporário.
      * @param namespace O namespace da textura (geralmente o ID do mod)
@@ -395,18 +433,18 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
 
     /**
      * Gera os arquivos de modelo e blockstate para um bloco.
+     * @param resources Os recursos do mod
      * @param modId O ID do mod
      * @param blockId O ID do bloco (já limpo, sem prefixo do mod)
      */
-    private static void generateBlockModelFiles(String modId, String blockId) {
+    private static void generateBlockModelFiles(Map<String, byte[]> resources, String modId, String blockId) {
         // Gera o arquivo blockstate
         String blockstatePath = "blockstates/" + blockId + ".json";
         String blockstateJson = String.format(
             "{\"variants\":{\"\":{\"model\":\"%s:block/%s\"}}}",
             modId, blockId
         );
-        addTextureToCache(modId, blockstatePath, blockstateJson.getBytes());
-        saveTextureToFile(modId, blockstatePath, blockstateJson.getBytes());
+        resources.put(blockstatePath, blockstateJson.getBytes());
         
         // Gera o arquivo de modelo do bloco
         String blockModelPath = "models/block/" + blockId + ".json";
@@ -414,8 +452,7 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
             "{\"parent\":\"minecraft:block/cube_all\",\"textures\":{\"all\":\"%s:block/%s\"}}",
             modId, blockId
         );
-        addTextureToCache(modId, blockModelPath, blockModelJson.getBytes());
-        saveTextureToFile(modId, blockModelPath, blockModelJson.getBytes());
+        resources.put(blockModelPath, blockModelJson.getBytes());
         
         // Gera o arquivo de modelo do item do bloco
         String itemModelPath = "models/item/" + blockId + ".json";
@@ -423,40 +460,71 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
             "{\"parent\":\"%s:block/%s\"}",
             modId, blockId
         );
-        addTextureToCache(modId, itemModelPath, itemModelJson.getBytes());
-        saveTextureToFile(modId, itemModelPath, itemModelJson.getBytes());
+        resources.put(itemModelPath, itemModelJson.getBytes());
         
         LOGGER.info("[ResourcePack] Arquivos de modelo e blockstate gerados para o bloco {}:{}", modId, blockId);
     }
 
     /**
      * Gera o arquivo de modelo para um item.
+     * @param resources Os recursos do mod
      * @param modId O ID do mod
      * @param itemId O ID do item (já limpo, sem prefixo do mod)
      */
-    private static void generateItemModelFile(String modId, String itemId) {
+    private static void generateItemModelFile(Map<String, byte[]> resources, String modId, String itemId) {
         String itemModelPath = "models/item/" + itemId + ".json";
         String itemModelJson = String.format(
             "{\"parent\":\"minecraft:item/generated\",\"textures\":{\"layer0\":\"%s:item/%s\"}}",
             modId, itemId
         );
-        addTextureToCache(modId, itemModelPath, itemModelJson.getBytes());
-        saveTextureToFile(modId, itemModelPath, itemModelJson.getBytes());
+        resources.put(itemModelPath, itemModelJson.getBytes());
         
         LOGGER.info("[ResourcePack] Arquivo de modelo gerado para o item {}:{}", modId, itemId);
     }
 
     /**
-     * Limpa o cache de texturas e os arquivos temporários para um mod específico.
-     * Isso força a regeneração de todos os recursos na próxima vez que o mod for carregado.
+     * Agenda a sincronização da pasta temporária com o índice de uma nova geração de mods.
+     * A troca de geração só depende do índice em memória: a gravação em disco roda depois,
+     * na thread "JSONloader-ResourceSync", na ordem em que as trocas foram feitas.
+     * @param previous O índice da geração que deixou de valer
+     * @param current O índice da geração ativada
+     */
+    public static void scheduleTemporaryFilesSync(TextureIndex previous, TextureIndex current) {
+        TEMP_FILES_WRITER.execute(() -> {
+            try {
+                syncTemporaryFiles(previous, current);
+            } catch (RuntimeException e) {
+                LOGGER.error("[ResourcePack] Erro ao sincronizar a pasta temporária: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Sincroniza a pasta temporária com o índice de uma nova geração de mods.
+     * Apenas os namespaces cujos recursos mudaram entre as gerações são reescritos.
+     */
+    private static void syncTemporaryFiles(TextureIndex previous, TextureIndex current) {
+        Set<String> namespaces = new HashSet<>(previous.namespaceIds());
+        namespaces.addAll(current.namespaceIds());
+        for (String namespace : namespaces) {
+            Map<String, byte[]> resources = current.namespace(namespace);
+            // Mods inalterados compartilham o mesmo mapa de recursos entre gerações
+            if (previous.namespace(namespace) == resources) {
+                continue;
+            }
+            clearModResources(namespace);
+            resources.forEach((path, data) -> saveTextureToFile(namespace, path, data));
+        }
+    }
+
+    /**
+     * Remove os arquivos temporários de um mod específico.
+     * Os recursos em memória pertencem à geração de mods e não são afetados.
      * @param modId O ID do mod
      */
     public static void clearModResources(String modId) {
         LOGGER.info("[ResourcePack] Limpando recursos do mod: {}", modId);
         
-        // Remove do cache
-        TEXTURE_CACHE.remove(modId);
-        
         // Remove os arquivos temporários
         Path modPath = TEMP_DIR.resolve(modId);
         if (Files.exists(modPath)) {
@@ -478,15 +546,12 @@ public class DynamicResourcePackManager implements ResourceManagerReloadListener
     }
 
     /**
-     * Limpa todos os recursos de todos os mods.
-     * Isso força a regeneração de todos os recursos na próxima vez que os mods forem carregados.
+     * Remove os arquivos temporários de todos os mods.
+     * Os recursos em memória pertencem à geração de mods e não são afetados.
      */
     public static void clearAllResources() {
         LOGGER.info("[ResourcePack] Limpando todos os recursos");
         
-        // Limpa o cache
-        TEXTURE_CACHE.clear();
-        
         // Remove todos os arquivos temporários
         if (Files.exists(TEMP_DIR)) {
             try {
@@ -0,0 +1,66 @@
+package com.jsonloader.loader.core.texture;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice imutável dos recursos gerados para o resource pack dinâmico (texturas, modelos e
+ * blockstates), agrupados por namespace (o ID do mod) e caminho.
+ * Cada geração de mods carregados tem o seu índice; mods inalterados entre gerações
+ * compartilham o mesmo mapa de recursos.
+ * @param namespaces Os recursos de cada namespace, por caminho
+ */
+public record TextureIndex(Map<String, Map<String, byte[]>> namespaces) {
+    public static final TextureIndex EMPTY = new TextureIndex(Map.of());
+
+    /**
+     * Retorna os dados de um recurso.
+     * @return Os dados, ou null se o recurso não estiver no índice
+     */
+    public byte[] get(String namespace, String path) {
+        Map<String, byte[]> resources = namespaces.get(namespace);
+        return resources != null ? resources.get(path) : null;
+    }
+
+    /**
+     * Retorna os recursos de um namespace, ou um mapa vazio se ele não estiver no índice.
+     */
+    public Map<String, byte[]> namespace(String namespace) {
+        return namespaces.getOrDefault(namespace, Collections.emptyMap());
+    }
+
+    /**
+     * Retorna os namespaces presentes no índice.
+     */
+    public Set<String> namespaceIds() {
+        return namespaces.keySet();
+    }
+
+    /**
+     * Retorna o número total de recursos no índice.
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, byte[]> resources : namespaces.values()) {
+            size += resources.size();
+        }
+        return size;
+    }
+
+    /**
+     * Cria um índice a partir de mapas de recursos por namespace. Os mapas de cada
+     * namespace devem ser imutáveis; eles não são copiados, para que gerações diferentes
+     * possam compartilhá-los.
+     */
+    public static TextureIndex of(Map<String, Map<String, byte[]>> namespaces) {
+        Map<String, Map<String, byte[]>> copy = new HashMap<>();
+        namespaces.forEach((namespace, resources) -> {
+            if (!resources.isEmpty()) {
+                copy.put(namespace, resources);
+            }
+        });
+        return new TextureIndex(Collections.unmodifiableMap(copy));
+    }
+}